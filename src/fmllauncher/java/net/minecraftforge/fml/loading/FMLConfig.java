@@ -43,6 +43,7 @@ public class FMLConfig
         configSpec.define("maxThreads", -1);
         configSpec.define("versionCheck", Boolean.TRUE);
         configSpec.define("defaultConfigPath",  "defaultconfigs");
+        configSpec.define("loadingTrace", Boolean.FALSE);
     }
 
     private CommentedFileConfig configData;
@@ -72,6 +73,7 @@ public class FMLConfig
         LOGGER.trace(CORE, "Max threads for mod loading computed at {}", FMLConfig::loadingThreadCount);
         LOGGER.trace(CORE, "Version check is {}", FMLConfig::runVersionCheck);
         LOGGER.trace(CORE, "Default config paths at {}", FMLConfig::defaultConfigPath);
+        LOGGER.trace(CORE, "Mod loading trace is {}", FMLConfig::writeLoadingTrace);
         FMLPaths.getOrCreateGameRelativePath(Paths.get(FMLConfig.defaultConfigPath()), "default config directory");
     }
 
@@ -89,6 +91,10 @@ public class FMLConfig
         return INSTANCE.configData.<Boolean>getOptional("versionCheck").orElse(Boolean.TRUE);
     }
 
+    public static boolean writeLoadingTrace() {
+        return INSTANCE.configData.<Boolean>getOptional("loadingTrace").orElse(Boolean.FALSE);
+    }
+
     public static String defaultConfigPath() {
         return INSTANCE.configData.<String>getOptional("defaultConfigPath").orElse("defaultconfigs");
     }
@@ -27,7 +27,6 @@ import net.minecraftforge.fml.loading.moddiscovery.ModInfo;
 
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -112,8 +111,7 @@ public class LoadingModList
     public Path findResource(final String className)
     {
         for (ModFileInfo mf : modFiles) {
-            final Path resource = mf.getFile().findResource(className);
-            if (Files.exists(resource)) return resource;
+            if (mf.getFile().hasResource(className)) return mf.getFile().findResource(className);
         }
         return null;
     }
@@ -123,8 +121,7 @@ public class LoadingModList
             // strip a leading slash
             if (resourceName.startsWith("/")) resourceName = resourceName.substring(1);
 
-            final Path resource = mf.getFile().findResource(resourceName);
-            if (Files.exists(resource)) {
+            if (mf.getFile().hasResource(resourceName)) {
                 try {
                     return new URL("modjar://"+mf.getMods().get(0).getModId()+"/"+resourceName);
                 } catch (MalformedURLException e) {
@@ -0,0 +1,114 @@
+/*
+ * Minecraft Forge
+ * Copyright (c) 2016-2019.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation version 2.1
+ * of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package net.minecraftforge.fml.loading;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static net.minecraftforge.fml.loading.LogMarkers.LOADING;
+
+/**
+ * Stores the order of the last successful mod sort, keyed by a fingerprint of everything the sort depends on.
+ * The first line of the file is the fingerprint, followed by one key per sorted item.
+ */
+final class ModSortCache
+{
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private ModSortCache()
+    {
+    }
+
+    static String fingerprint(String description)
+    {
+        try
+        {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(description.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder hex = new StringBuilder();
+            for (byte b : digest)
+                hex.append(String.format("%02x", b));
+            return hex.toString();
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return the items in the cached order, or null if the cache is missing, has another fingerprint or lists other items
+     */
+    @Nullable
+    static <T> List<T> load(Path cacheFile, String fingerprint, List<T> items, Function<T, String> key)
+    {
+        if (!Files.exists(cacheFile))
+            return null;
+        try
+        {
+            final List<String> lines = Files.readAllLines(cacheFile, StandardCharsets.UTF_8);
+            if (lines.isEmpty() || !fingerprint.equals(lines.get(0)) || lines.size() - 1 != items.size())
+                return null;
+            final Map<String, T> byKey = new HashMap<>();
+            items.forEach(item -> byKey.put(key.apply(item), item));
+            final List<T> ordered = new ArrayList<>(items.size());
+            for (String line : lines.subList(1, lines.size()))
+            {
+                final T item = byKey.remove(line);
+                if (item == null)
+                    return null;
+                ordered.add(item);
+            }
+            return ordered;
+        }
+        catch (IOException e)
+        {
+            LOGGER.debug(LOADING, "Unable to read mod sort cache {}", cacheFile, e);
+            return null;
+        }
+    }
+
+    static <T> void save(Path cacheFile, String fingerprint, List<T> items, Function<T, String> key)
+    {
+        final List<String> lines = new ArrayList<>(items.size() + 1);
+        lines.add(fingerprint);
+        items.forEach(item -> lines.add(key.apply(item)));
+        try
+        {
+            Files.write(cacheFile, lines, StandardCharsets.UTF_8);
+        }
+        catch (IOException e)
+        {
+            LOGGER.debug(LOADING, "Unable to write mod sort cache {}", cacheFile, e);
+        }
+    }
+}
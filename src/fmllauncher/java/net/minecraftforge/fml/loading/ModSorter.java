@@ -38,14 +38,14 @@ import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
 
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static net.minecraftforge.fml.loading.LogMarkers.LOADING;
@@ -53,6 +53,7 @@ import static net.minecraftforge.fml.loading.LogMarkers.LOADING;
 public class ModSorter
 {
     private static final Logger LOGGER = LogManager.getLogger();
+    private static final String SORT_CACHE = "modsort.cache";
     private List<ModFile> modFiles;
     private List<ModInfo> sortedList;
     private Map<String, ModInfo> modIdNameLookup;
@@ -69,8 +70,13 @@ public class ModSorter
         try {
             ms.findLanguages();
             ms.buildUniqueList();
+            // Always verified, the result depends on the dist as well as the mod set
             ms.verifyDependencyVersions();
-            ms.sort();
+            final String fingerprint = ms.computeFingerprint();
+            if (!ms.loadCachedOrder(fingerprint)) {
+                ms.sort();
+                ms.saveCachedOrder(fingerprint);
+            }
         } catch (EarlyLoadingException ele) {
             earlyLoadingException = ele;
             ms.sortedList = Collections.emptyList();
@@ -87,19 +93,23 @@ public class ModSorter
     {
         // lambdas are identity based, so sorting them is impossible unless you hold reference to them
         final MutableGraph<ModFileInfo> graph = GraphBuilder.directed().build();
-        AtomicInteger counter = new AtomicInteger();
-        Map<IModFileInfo, Integer> infos = modFiles
-                .stream()
-                .map(ModFile::getModFileInfo)
-                .collect(Collectors.toMap(Function.identity(), e -> counter.incrementAndGet()));
-        infos.keySet().forEach(i -> graph.addNode((ModFileInfo) i));
-        modFiles
-                .stream()
-                .map(ModFile::getModInfos)
-                .flatMap(Collection::stream)
-                .map(IModInfo::getDependencies)
-                .flatMap(Collection::stream)
-                .forEach(dep -> addDependency(graph, dep));
+        final Map<IModFileInfo, Integer> infos = new HashMap<>();
+        for (ModFile modFile : modFiles)
+        {
+            final ModFileInfo info = (ModFileInfo) modFile.getModFileInfo();
+            infos.put(info, infos.size() + 1);
+            graph.addNode(info);
+        }
+        for (ModFile modFile : modFiles)
+        {
+            for (IModInfo modInfo : modFile.getModInfos())
+            {
+                for (IModInfo.ModVersion dep : modInfo.getDependencies())
+                {
+                    addDependency(graph, dep);
+                }
+            }
+        }
 
         final List<ModFileInfo> sorted;
         try
@@ -215,30 +225,27 @@ public class ModSorter
 
     private void verifyDependencyVersions()
     {
-        final Map<String, ArtifactVersion> modVersions = modFiles
-                .stream()
-                .map(ModFile::getModInfos)
-                .flatMap(Collection::stream)
-                .collect(Collectors.toMap(IModInfo::getModId, IModInfo::getVersion));
-
-        final Map<IModInfo, List<IModInfo.ModVersion>> modVersionDependencies = modFiles
-                .stream()
-                .map(ModFile::getModInfos)
-                .flatMap(Collection::stream)
-                .collect(Collectors.groupingBy(Function.identity(), Java9BackportUtils.flatMapping(e -> e.getDependencies().stream(), Collectors.toList())));
-
-        final Set<IModInfo.ModVersion> mandatoryModVersions = modVersionDependencies
-                .values()
-                .stream()
-                .flatMap(Collection::stream)
-                .filter(mv -> mv.isMandatory() && mv.getSide().isCorrectSide())
-                .collect(Collectors.toSet());
+        // Single pass to index versions and collect requirements, the range checks themselves are independent and run in parallel
+        final Map<String, ArtifactVersion> modVersions = new HashMap<>();
+        final List<IModInfo.ModVersion> mandatoryModVersions = new ArrayList<>();
+        for (ModFile modFile : modFiles)
+        {
+            for (IModInfo modInfo : modFile.getModInfos())
+            {
+                modVersions.put(modInfo.getModId(), modInfo.getVersion());
+                for (IModInfo.ModVersion mv : modInfo.getDependencies())
+                {
+                    if (mv.isMandatory() && mv.getSide().isCorrectSide())
+                        mandatoryModVersions.add(mv);
+                }
+            }
+        }
 
         LOGGER.debug(LOADING, "Found {} mandatory requirements", mandatoryModVersions.size());
-        final Set<IModInfo.ModVersion> missingVersions = mandatoryModVersions
-                .stream()
+        final List<IModInfo.ModVersion> missingVersions = mandatoryModVersions
+                .parallelStream()
                 .filter(mv->this.modVersionMatches(mv, modVersions))
-                .collect(Collectors.toSet());
+                .collect(Collectors.toList());
         LOGGER.debug(LOADING, "Found {} mandatory mod requirements missing", missingVersions.size());
 
         if (!missingVersions.isEmpty()) {
@@ -252,6 +259,53 @@ public class ModSorter
         }
     }
 
+    /**
+     * Describes everything the sort depends on, in the order the files are fed to it.
+     */
+    private String computeFingerprint()
+    {
+        final StringBuilder sb = new StringBuilder();
+        for (ModFile modFile : modFiles)
+        {
+            sb.append(modFile.getFilePath()).append('\n');
+            for (IModInfo modInfo : modFile.getModInfos())
+            {
+                sb.append(' ').append(modInfo.getModId()).append('@').append(modInfo.getVersion()).append('\n');
+                for (IModInfo.ModVersion mv : modInfo.getDependencies())
+                {
+                    sb.append("  ").append(mv.getModId()).append(' ').append(mv.isMandatory()).append(' ').append(mv.getVersionRange())
+                            .append(' ').append(mv.getOrdering()).append(' ').append(mv.getSide()).append('\n');
+                }
+            }
+        }
+        return ModSortCache.fingerprint(sb.toString());
+    }
+
+    /**
+     * Reuses the order of the last successful sort if the mod set is unchanged. The sort is deterministic,
+     * so a matching fingerprint means it would give the same result again.
+     */
+    private boolean loadCachedOrder(final String fingerprint)
+    {
+        final List<ModFile> ordered = ModSortCache.load(FMLPaths.GAMEDIR.get().resolve(SORT_CACHE), fingerprint, modFiles, mf -> mf.getFilePath().toString());
+        if (ordered == null)
+            return false;
+        this.modFiles = ordered;
+        this.sortedList = ordered
+                .stream()
+                .map(ModFile::getModInfos)
+                .flatMap(Collection::stream)
+                .map(ModInfo.class::cast)
+                .collect(Collectors.toList());
+        LOGGER.debug(LOADING, "Reusing cached mod order for {} mod files", ordered.size());
+        return true;
+    }
+
+    private void saveCachedOrder(final String fingerprint)
+    {
+        ModSortCache.save(FMLPaths.GAMEDIR.get().resolve(SORT_CACHE), fingerprint, modFiles, mf -> mf.getFilePath().toString());
+    }
+
     private boolean modVersionMatches(final IModInfo.ModVersion mv, final Map<String, ArtifactVersion> modVersions)
     {
         return !(modVersions.containsKey(mv.getModId()) &&
@@ -24,7 +24,9 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -55,6 +57,19 @@ public class RuntimeDistCleaner implements ILaunchPluginService
     private static String DIST;
     private static final String ONLYIN = Type.getDescriptor(OnlyIn.class);
     private static final String ONLYINS = Type.getDescriptor(OnlyIns.class);
+    // Internal class name -> whether the scanned class carries dist markers anywhere
+    private static final Map<String, Boolean> SCANNED_CLASSES = new ConcurrentHashMap<>();
+
+    /**
+     * Called by the mod file scanner for every class it reads, so that classes known to have no
+     * {@link OnlyIn} or {@link OnlyIns} markers can skip this transformer entirely.
+     */
+    public static void indexScannedClass(String internalName, boolean hasDistMarkers)
+    {
+        // The same class may be present in more than one file, stay conservative if any copy is marked
+        SCANNED_CLASSES.merge(internalName, hasDistMarkers, Boolean::logicalOr);
+    }
+
     @Override
     public String name()
     {
@@ -185,7 +200,11 @@ public class RuntimeDistCleaner implements ILaunchPluginService
     @Override
     public EnumSet<Phase> handlesClass(Type classType, boolean isEmpty)
     {
-        return isEmpty ? NAY : YAY;
+        if (isEmpty)
+            return NAY;
+        // Classes that were not scanned (vanilla, libraries, files still being scanned) still have to be inspected
+        Boolean hasDistMarkers = SCANNED_CLASSES.get(classType.getInternalName());
+        return hasDistMarkers == null || hasDistMarkers ? YAY : NAY;
     }
 
     private static class LambdaGatherer extends MethodVisitor {
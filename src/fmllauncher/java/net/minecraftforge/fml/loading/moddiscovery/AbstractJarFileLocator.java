@@ -33,6 +33,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
@@ -44,6 +45,7 @@ import static net.minecraftforge.fml.loading.LogMarkers.SCAN;
 public abstract class AbstractJarFileLocator implements IModLocator {
     private static final Logger LOGGER = LogManager.getLogger();
     protected final Map<IModFile, FileSystem> modJars;
+    private final Map<IModFile, Optional<JarEntryIndex>> entryIndexes = new ConcurrentHashMap<>();
 
     public AbstractJarFileLocator() {
         this.modJars = new HashMap<>();
@@ -93,6 +95,22 @@ public abstract class AbstractJarFileLocator implements IModLocator {
         }
     }
 
+    /**
+     * Checks for an entry using the jar's entry index, which is built on first use.
+     * Equivalent to {@code Files.exists(findPath(modFile, path))}.
+     */
+    public boolean hasEntry(final IModFile modFile, final String path) {
+        final FileSystem fs = modJars.get(modFile);
+        if (fs == null) {
+            return false;
+        }
+        final Optional<JarEntryIndex> index = entryIndexes.computeIfAbsent(modFile, mf -> Optional.ofNullable(JarEntryIndex.build(fs)));
+        if (index.isPresent() && index.get().canAnswer(path)) {
+            return index.get().contains(path);
+        }
+        return Files.exists(findPath(modFile, path));
+    }
+
     @Override
     public boolean isValid(final IModFile modFile) {
         return modJars.get(modFile) != null;
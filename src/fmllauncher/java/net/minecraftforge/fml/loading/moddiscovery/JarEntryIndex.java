@@ -0,0 +1,87 @@
+/*
+ * Minecraft Forge
+ * Copyright (c) 2016-2019.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation version 2.1
+ * of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package net.minecraftforge.fml.loading.moddiscovery;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static net.minecraftforge.fml.loading.LogMarkers.SCAN;
+
+/**
+ * Set of every entry name in a mod jar, read once from the jar's file system.
+ * <p>
+ * Class and resource lookups probe every mod file in turn, so most lookups are misses.
+ * Answering those from a hash set avoids resolving a zip file system path for each one.
+ */
+final class JarEntryIndex {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private final Set<String> entries;
+
+    private JarEntryIndex(Set<String> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * @return the index, or null if the file system could not be walked
+     */
+    static JarEntryIndex build(FileSystem fileSystem) {
+        Set<String> entries = new HashSet<>();
+        for (Path root : fileSystem.getRootDirectories()) {
+            try (Stream<Path> files = Files.walk(root)) {
+                // Directories are included too, Files.exists is true for them in a zip file system
+                files.filter(p -> p.getNameCount() > 0).forEach(p -> entries.add(stripSlashes(p.toString())));
+            } catch (IOException e) {
+                LOGGER.debug(SCAN, "Unable to index jar file system {}", fileSystem, e);
+                return null;
+            }
+        }
+        return new JarEntryIndex(entries);
+    }
+
+    /**
+     * Names that need path normalization, such as {@code a/../b}, are left to the file system.
+     *
+     * @return true if {@link #contains(String)} gives the same answer as {@code Files.exists} for the name
+     */
+    boolean canAnswer(String name) {
+        return !name.isEmpty() && name.indexOf('\\') == -1 && !name.contains("//") && !name.contains("./");
+    }
+
+    /**
+     * Only meaningful for names the index {@link #canAnswer(String) can answer}.
+     */
+    boolean contains(String name) {
+        return entries.contains(stripSlashes(name));
+    }
+
+    private static String stripSlashes(String name) {
+        int start = name.startsWith("/") ? 1 : 0;
+        int end = name.endsWith("/") && name.length() > start ? name.length() - 1 : name.length();
+        return name.substring(start, end);
+    }
+}
@@ -19,6 +19,8 @@
 
 package net.minecraftforge.fml.loading.moddiscovery;
 
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.api.distmarker.OnlyIns;
 import net.minecraftforge.forgespi.language.ModFileScanData;
 import org.objectweb.asm.AnnotationVisitor;
 import org.objectweb.asm.ClassVisitor;
@@ -36,6 +38,9 @@ import java.util.stream.Stream;
 
 public class ModClassVisitor extends ClassVisitor
 {
+    private static final Type ONLYIN = Type.getType(OnlyIn.class);
+    private static final Type ONLYINS = Type.getType(OnlyIns.class);
+
     private Type asmType;
     private Type asmSuperType;
     private Set<Type> interfaces;
@@ -83,4 +88,17 @@ public class ModClassVisitor extends ClassVisitor
         annotations.addAll(collect);
     }
 
+    public Type getAsmType()
+    {
+        return asmType;
+    }
+
+    /**
+     * @return true if the class or any of its fields or methods carry {@link OnlyIn} or {@link OnlyIns}
+     */
+    public boolean hasDistMarkers()
+    {
+        return this.annotations.stream().anyMatch(ma -> ONLYIN.equals(ma.asmType) || ONLYINS.equals(ma.asmType));
+    }
+
 }
@@ -78,6 +78,16 @@ public class ModFile implements IModFile {
         return locator.findPath(this, className);
     }
 
+    /**
+     * Same as {@code Files.exists(findResource(name))}, but answered from the jar's entry index where possible.
+     */
+    public boolean hasResource(String name) {
+        if (locator instanceof AbstractJarFileLocator) {
+            return ((AbstractJarFileLocator)locator).hasEntry(this, name);
+        }
+        return Files.exists(findResource(name));
+    }
+
     public void identifyLanguage() {
         this.loader = FMLLoader.getLanguageLoadingProvider().findLanguage(this, this.modFileInfo.getModLoader(), this.modFileInfo.getModLoaderVersion());
     }
@@ -19,6 +19,7 @@
 
 package net.minecraftforge.fml.loading.moddiscovery;
 
+import net.minecraftforge.fml.loading.RuntimeDistCleaner;
 import net.minecraftforge.forgespi.language.IModLanguageProvider;
 import net.minecraftforge.forgespi.language.ModFileScanData;
 import org.apache.logging.log4j.LogManager;
@@ -59,6 +60,7 @@ public class Scanner {
             ClassReader cr = new ClassReader(in);
             cr.accept(mcv, 0);
             mcv.buildData(result.getClasses(), result.getAnnotations());
+            RuntimeDistCleaner.indexScannedClass(mcv.getAsmType().getInternalName(), mcv.hasDistMarkers());
         } catch (IOException | IllegalArgumentException e) {
             // mark path bad
         }
@@ -0,0 +1,85 @@
+/*
+ * Minecraft Forge
+ * Copyright (c) 2016-2019.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation version 2.1
+ * of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package net.minecraftforge.fml.loading;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for the mod sort order cache.
+ */
+public class ModSortCacheTest {
+
+    private static Path cacheFile() throws IOException {
+        Path file = Files.createTempFile("modsort", ".cache");
+        Files.delete(file);
+        file.toFile().deleteOnExit();
+        return file;
+    }
+
+    @Test
+    @DisplayName("cached order is restored for the same fingerprint and items")
+    void testRoundTrip() throws IOException {
+        Path file = cacheFile();
+        String fingerprint = ModSortCache.fingerprint("mods");
+        ModSortCache.save(file, fingerprint, Arrays.asList("forge.jar", "lib.jar", "mod.jar"), Function.identity());
+
+        List<String> discovered = Arrays.asList("mod.jar", "forge.jar", "lib.jar");
+        assertEquals(Arrays.asList("forge.jar", "lib.jar", "mod.jar"), ModSortCache.load(file, fingerprint, discovered, Function.identity()));
+    }
+
+    @Test
+    @DisplayName("stale caches are ignored")
+    void testMisses() throws IOException {
+        Path file = cacheFile();
+        String fingerprint = ModSortCache.fingerprint("mods");
+        assertNull(ModSortCache.load(file, fingerprint, Collections.singletonList("forge.jar"), Function.identity()));
+
+        ModSortCache.save(file, fingerprint, Arrays.asList("forge.jar", "mod.jar"), Function.identity());
+        assertNull(ModSortCache.load(file, ModSortCache.fingerprint("other mods"), Arrays.asList("forge.jar", "mod.jar"), Function.identity()));
+        assertNull(ModSortCache.load(file, fingerprint, Arrays.asList("forge.jar", "other.jar"), Function.identity()));
+        assertNull(ModSortCache.load(file, fingerprint, Arrays.asList("forge.jar", "mod.jar", "new.jar"), Function.identity()));
+        assertNull(ModSortCache.load(file, fingerprint, Collections.singletonList("forge.jar"), Function.identity()));
+
+        Files.write(file, Collections.singletonList(fingerprint), StandardCharsets.UTF_8);
+        assertNull(ModSortCache.load(file, fingerprint, Collections.singletonList("forge.jar"), Function.identity()));
+    }
+
+    @Test
+    @DisplayName("fingerprints depend on the whole description")
+    void testFingerprint() {
+        assertEquals(ModSortCache.fingerprint("a\n b@1\n"), ModSortCache.fingerprint("a\n b@1\n"));
+        assertNotEquals(ModSortCache.fingerprint("a\n b@1\n"), ModSortCache.fingerprint("a\n b@2\n"));
+        assertEquals(64, ModSortCache.fingerprint("").length());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Minecraft Forge
+ * Copyright (c) 2016-2019.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation version 2.1
+ * of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package net.minecraftforge.fml.loading.moddiscovery;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the jar entry index agrees with the zip file system it was built from.
+ */
+public class JarEntryIndexTest {
+
+    private static Path writeJar(String... entries) throws IOException {
+        Path jar = Files.createTempFile("jarentryindex", ".jar");
+        jar.toFile().deleteOnExit();
+        try (OutputStream out = Files.newOutputStream(jar); ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (String entry : entries) {
+                zip.putNextEntry(new ZipEntry(entry));
+                zip.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    @Test
+    @DisplayName("index answers like Files.exists")
+    void testMatchesFileSystem() throws IOException {
+        Path jar = writeJar("META-INF/mods.toml", "net/example/Example.class", "assets/example/lang/", "assets/example/lang/en_us.json");
+        try (FileSystem fs = FileSystems.newFileSystem(jar, (ClassLoader)null)) {
+            JarEntryIndex index = JarEntryIndex.build(fs);
+            assertNotNull(index);
+            String[] names = {
+                    "META-INF/mods.toml", "/META-INF/mods.toml", "net/example/Example.class", "net/example/Missing.class",
+                    "net", "net/", "net/example", "/net/example/", "assets/example/lang", "assets/example/lang/en_us.json",
+                    "assets/example/lang/de_de.json", "pack.mcmeta", "META-INF", "mods.toml", "example/Example.class",
+            };
+            for (String name : names) {
+                assertTrue(index.canAnswer(name), name);
+                assertEquals(Files.exists(fs.getPath(name)), index.contains(name), name);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("names needing normalization are left to the file system")
+    void testUnanswerableNames() throws IOException {
+        Path jar = writeJar("net/example/Example.class");
+        try (FileSystem fs = FileSystems.newFileSystem(jar, (ClassLoader)null)) {
+            JarEntryIndex index = JarEntryIndex.build(fs);
+            assertNotNull(index);
+            assertFalse(index.canAnswer(""));
+            assertFalse(index.canAnswer("net//example/Example.class"));
+            assertFalse(index.canAnswer("net/../net/example/Example.class"));
+            assertFalse(index.canAnswer("./net/example/Example.class"));
+            assertFalse(index.canAnswer("net\\example\\Example.class"));
+        }
+    }
+}
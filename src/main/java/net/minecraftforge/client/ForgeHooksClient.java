@@ -41,6 +41,7 @@ import java.io.File;
 import java.lang.reflect.Field;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -49,6 +50,7 @@ import java.util.Set;
 import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import net.minecraft.client.renderer.*;
 import net.minecraft.client.settings.KeyBinding;
@@ -65,6 +67,7 @@ import com.mojang.blaze3d.platform.GlStateManager;
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.IVertexBuilder;
 
+import net.minecraft.block.BlockState;
 import net.minecraft.client.GameSettings;
 import net.minecraft.client.MainWindow;
 import net.minecraft.client.Minecraft;
@@ -133,10 +136,12 @@ import net.minecraftforge.client.event.ScreenshotEvent;
 import net.minecraftforge.client.event.TextureStitchEvent;
 import net.minecraftforge.client.event.sound.PlaySoundEvent;
 import net.minecraftforge.client.model.ModelLoader;
+import net.minecraftforge.client.model.MultiLayerModel;
 import net.minecraftforge.client.model.animation.Animation;
 import net.minecraftforge.client.model.data.EmptyModelData;
 import net.minecraftforge.client.model.pipeline.QuadGatheringTransformer;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.common.crafting.RecipeItemIndex;
 import net.minecraftforge.common.model.TransformationHelper;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.fml.ModLoader;
@@ -216,6 +221,34 @@ public class ForgeHooksClient
         renderLayer.set(layer);
     }
 
+    /**
+     * The layers the chunk rebuild walks for one position. Most positions are air,
+     * so nothing is iterated unless something actually renders there.
+     */
+    public static List<RenderType> getChunkLayers(boolean renders)
+    {
+        return renders ? RenderType.func_228661_n_() : Collections.emptyList();
+    }
+
+    /**
+     * The model to render for the given layer of a chunk, or null if the state does not draw in it.
+     * Multi-layer models hand back their child for the layer directly, so their quads
+     * are not filtered through the thread-local render layer.
+     */
+    @Nullable
+    public static IBakedModel getLayerModel(IBakedModel model, BlockState state, RenderType layer)
+    {
+        if (!RenderTypeLookup.canRenderInLayer(state, layer))
+            return null;
+        if (model instanceof MultiLayerModel.MultiLayerBakedModel)
+        {
+            IBakedModel layerModel = ((MultiLayerModel.MultiLayerBakedModel) model).getLayerModel(layer);
+            if (layerModel != null)
+                return layerModel;
+        }
+        return model;
+    }
+
     public static <A extends BipedModel<?>> A getArmorModel(LivingEntity entityLiving, ItemStack itemStack, EquipmentSlotType slot, A _default)
     {
         A model = itemStack.getItem().getArmorModel(entityLiving, itemStack, slot, _default);
@@ -919,6 +952,7 @@ public class ForgeHooksClient
 
     public static void onRecipesUpdated(RecipeManager mgr)
     {
+        RecipeItemIndex.invalidate(mgr);
         Event event = new RecipesUpdatedEvent(mgr);
         MinecraftForge.EVENT_BUS.post(event);
     }
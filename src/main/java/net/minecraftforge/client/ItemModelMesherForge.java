@@ -26,6 +26,8 @@ import javax.annotation.Nullable;
 
 import com.google.common.collect.Maps;
 
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
 import net.minecraft.client.renderer.ItemModelMesher;
 import net.minecraft.client.renderer.model.IBakedModel;
 import net.minecraft.client.renderer.model.ModelBakery;
@@ -33,6 +35,8 @@ import net.minecraft.client.renderer.model.ModelManager;
 import net.minecraft.client.renderer.model.ModelResourceLocation;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.fml.event.lifecycle.FMLModIdMappingEvent;
 import net.minecraftforge.registries.IRegistryDelegate;
 
 /**
@@ -42,17 +46,26 @@ public class ItemModelMesherForge extends ItemModelMesher
 {
     final Map<IRegistryDelegate<Item>, ModelResourceLocation> locations = Maps.newHashMap();
     final Map<IRegistryDelegate<Item>, IBakedModel> models = Maps.newHashMap();
+    // Keyed by the current item instances, so lookups skip hashing the delegate's name. Replaced wholesale, never mutated
+    private volatile Reference2ObjectOpenHashMap<Item, IBakedModel> modelsByItem = new Reference2ObjectOpenHashMap<>();
+    private volatile boolean lookupDirty = false;
 
     public ItemModelMesherForge(ModelManager manager)
     {
         super(manager);
+        // Delegates are rebound to new item instances when registry snapshots are applied
+        MinecraftForge.EVENT_BUS.addListener((FMLModIdMappingEvent event) -> lookupDirty = true);
     }
 
     @Override
     @Nullable
     public IBakedModel getItemModel(Item item)
     {
-        return models.get(item.delegate);
+        if (lookupDirty)
+        {
+            rebuildItemLookup();
+        }
+        return modelsByItem.get(item);
     }
 
     @Override
@@ -61,6 +74,7 @@ public class ItemModelMesherForge extends ItemModelMesher
         IRegistryDelegate<Item> key = item.delegate;
         locations.put(key, location);
         models.put(key, getModelManager().getModel(location));
+        lookupDirty = true;
     }
 
     @Override
@@ -69,8 +83,20 @@ public class ItemModelMesherForge extends ItemModelMesher
         final ModelManager manager = this.getModelManager();
         for (Map.Entry<IRegistryDelegate<Item>, ModelResourceLocation> e : locations.entrySet())
         {
-        	models.put(e.getKey(), manager.getModel(e.getValue()));
+            models.put(e.getKey(), manager.getModel(e.getValue()));
+        }
+        lookupDirty = true;
+    }
+
+    private void rebuildItemLookup()
+    {
+        lookupDirty = false;
+        Reference2ObjectOpenHashMap<Item, IBakedModel> lookup = new Reference2ObjectOpenHashMap<>(models.size());
+        for (Map.Entry<IRegistryDelegate<Item>, IBakedModel> e : models.entrySet())
+        {
+            lookup.put(e.getKey().get(), e.getValue());
         }
+        modelsByItem = lookup;
     }
 
     public ModelResourceLocation getLocation(@Nonnull ItemStack stack)
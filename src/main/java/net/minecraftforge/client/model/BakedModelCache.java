@@ -0,0 +1,412 @@
+/*
+ * Minecraft Forge
+ * Copyright (c) 2016-2019.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation version 2.1
+ * of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package net.minecraftforge.client.model;
+
+import com.google.common.collect.Maps;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.collect.ImmutableList;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.Vector3f;
+import net.minecraft.client.renderer.model.BakedQuad;
+import net.minecraft.client.renderer.model.IBakedModel;
+import net.minecraft.client.renderer.model.ItemCameraTransforms;
+import net.minecraft.client.renderer.model.ItemOverrideList;
+import net.minecraft.client.renderer.model.ItemTransformVec3f;
+import net.minecraft.client.renderer.model.Material;
+import net.minecraft.client.renderer.model.ModelResourceLocation;
+import net.minecraft.client.renderer.model.SimpleBakedModel;
+import net.minecraft.client.renderer.texture.AtlasTexture;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import net.minecraft.client.renderer.vertex.VertexFormatElement;
+import net.minecraft.util.Direction;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fml.ModList;
+import net.minecraftforge.fml.loading.FMLPaths;
+import net.minecraftforge.fml.loading.moddiscovery.ModFileInfo;
+import net.minecraftforge.versions.forge.ForgeVersion;
+import net.minecraftforge.versions.mcp.MCPVersion;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Nullable;
+
+import static net.minecraftforge.fml.Logging.MODELLOADING;
+
+/**
+ * On-disk cache of plain baked models, keyed by a fingerprint of the mod files and resource packs.
+ * Quads are stored with their raw vertex data and sprite names, and remapped to the current atlas
+ * on load if a sprite moved. Anything that isn't exactly a {@link SimpleBakedModel} without overrides
+ * is never cached, so dynamic models are always baked normally.
+ */
+final class BakedModelCache
+{
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final int MAGIC = 0x46424D43; // FBMC
+    private static final int FORMAT_VERSION = 2;
+    private static final Path CACHE_FILE = FMLPaths.GAMEDIR.get().resolve("bakedmodelcache.bin");
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int STRIDE = DefaultVertexFormats.BLOCK.getSize() / 4;
+    private static final int UV = findUvOffset() / 4;
+
+    private BakedModelCache() {}
+
+    /**
+     * Fingerprint of everything that can change the baked output: game and Forge versions, mipmap level,
+     * the mod files and the enabled resource packs.
+     * @return the fingerprint, or null if the cache can't be used because a mod is loaded from a directory,
+     *         as in a development workspace, whose contents are edited in place.
+     */
+    @Nullable
+    static String computeFingerprint()
+    {
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putInt(FORMAT_VERSION);
+        hasher.putString(MCPVersion.getMCVersion(), StandardCharsets.UTF_8);
+        hasher.putString(ForgeVersion.getVersion(), StandardCharsets.UTF_8);
+        hasher.putInt(Minecraft.getInstance().gameSettings.mipmapLevels);
+        for (ModFileInfo info : ModList.get().getModFiles())
+        {
+            Path file = info.getFile().getFilePath();
+            if (Files.isDirectory(file))
+            {
+                LOGGER.debug(MODELLOADING, "Mod {} is loaded from a directory, baked model cache disabled", file);
+                return null;
+            }
+            putFile(hasher, file);
+        }
+        Minecraft.getInstance().getResourcePackList().getEnabledPacks().forEach(pack -> hasher.putString(pack.getName(), StandardCharsets.UTF_8));
+        Path packs = FMLPaths.GAMEDIR.get().resolve("resourcepacks");
+        if (Files.isDirectory(packs))
+        {
+            try (Stream<Path> files = Files.walk(packs))
+            {
+                files.sorted().forEach(file -> putFile(hasher, file));
+            }
+            catch (IOException | UncheckedIOException e)
+            {
+                // An unreadable pack folder makes the fingerprint unique, so the cache is never trusted
+                hasher.putLong(System.nanoTime());
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void putFile(Hasher hasher, Path file)
+    {
+        hasher.putString(file.toString(), StandardCharsets.UTF_8);
+        try
+        {
+            hasher.putLong(Files.getLastModifiedTime(file).toMillis());
+            hasher.putLong(Files.isDirectory(file) ? 0 : Files.size(file));
+        }
+        catch (IOException e)
+        {
+            hasher.putLong(System.nanoTime());
+        }
+    }
+
+    static boolean canCache(IBakedModel model, Function<Material, TextureAtlasSprite> spriteGetter)
+    {
+        if (model.getClass() != SimpleBakedModel.class || model.getOverrides() != ItemOverrideList.EMPTY)
+            return false;
+        if (!isBlockAtlasSprite(model.getParticleTexture(), spriteGetter))
+            return false;
+        Random rand = new Random();
+        for (int i = 0; i <= DIRECTIONS.length; i++)
+        {
+            for (BakedQuad quad : model.getQuads(null, i == DIRECTIONS.length ? null : DIRECTIONS[i], rand))
+            {
+                if (quad.getVertexData().length != STRIDE * 4 || !isBlockAtlasSprite(quad.getSprite(), spriteGetter))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBlockAtlasSprite(TextureAtlasSprite sprite, Function<Material, TextureAtlasSprite> spriteGetter)
+    {
+        return sprite != null && spriteGetter.apply(new Material(AtlasTexture.LOCATION_BLOCKS_TEXTURE, sprite.getName())) == sprite;
+    }
+
+    /**
+     * @return the cached models, or null if there is no usable cache for the given fingerprint.
+     */
+    @Nullable
+    static Map<ResourceLocation, IBakedModel> load(String fingerprint, Function<Material, TextureAtlasSprite> spriteGetter)
+    {
+        if (!Files.exists(CACHE_FILE))
+            return null;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(CACHE_FILE)))))
+        {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || !fingerprint.equals(in.readUTF()))
+                return null;
+
+            int spriteCount = in.readInt();
+            TextureAtlasSprite[] sprites = new TextureAtlasSprite[spriteCount];
+            float[][] oldBounds = new float[spriteCount][];
+            for (int i = 0; i < spriteCount; i++)
+            {
+                ResourceLocation name = new ResourceLocation(in.readUTF());
+                sprites[i] = spriteGetter.apply(new Material(AtlasTexture.LOCATION_BLOCKS_TEXTURE, name));
+                if (!name.equals(sprites[i].getName()))
+                {
+                    LOGGER.debug(MODELLOADING, "Baked model cache references missing sprite {}, ignoring it", name);
+                    return null;
+                }
+                oldBounds[i] = new float[] { in.readFloat(), in.readFloat(), in.readFloat(), in.readFloat() };
+            }
+
+            int modelCount = in.readInt();
+            Map<ResourceLocation, IBakedModel> models = Maps.newHashMapWithExpectedSize(modelCount);
+            for (int i = 0; i < modelCount; i++)
+            {
+                String location = in.readUTF();
+                models.put(location.indexOf('#') >= 0 ? new ModelResourceLocation(location) : new ResourceLocation(location), readModel(in, sprites, oldBounds));
+            }
+            LOGGER.debug(MODELLOADING, "Loaded {} baked models from cache", models.size());
+            return models;
+        }
+        catch (IOException | RuntimeException e)
+        {
+            LOGGER.warn(MODELLOADING, "Failed to read baked model cache, models will be baked normally", e);
+            return null;
+        }
+    }
+
+    static void save(String fingerprint, Map<ResourceLocation, IBakedModel> models)
+    {
+        Reference2IntMap<TextureAtlasSprite> spriteIds = new Reference2IntOpenHashMap<>();
+        spriteIds.defaultReturnValue(-1);
+        List<TextureAtlasSprite> sprites = new ArrayList<>();
+        ByteArrayOutputStream modelBytes = new ByteArrayOutputStream();
+        Path temp = CACHE_FILE.resolveSibling(CACHE_FILE.getFileName() + ".tmp");
+        try
+        {
+            DataOutputStream modelOut = new DataOutputStream(modelBytes);
+            for (Map.Entry<ResourceLocation, IBakedModel> entry : models.entrySet())
+            {
+                modelOut.writeUTF(entry.getKey().toString());
+                writeModel(modelOut, entry.getValue(), sprite -> {
+                    int id = spriteIds.getInt(sprite);
+                    if (id < 0)
+                    {
+                        id = sprites.size();
+                        spriteIds.put(sprite, id);
+                        sprites.add(sprite);
+                    }
+                    return id;
+                });
+            }
+            modelOut.flush();
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp)))))
+            {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(fingerprint);
+                out.writeInt(sprites.size());
+                for (TextureAtlasSprite sprite : sprites)
+                {
+                    out.writeUTF(sprite.getName().toString());
+                    out.writeFloat(sprite.getMinU());
+                    out.writeFloat(sprite.getMaxU());
+                    out.writeFloat(sprite.getMinV());
+                    out.writeFloat(sprite.getMaxV());
+                }
+                out.writeInt(models.size());
+                modelBytes.writeTo(out);
+            }
+            Files.move(temp, CACHE_FILE, StandardCopyOption.REPLACE_EXISTING);
+            LOGGER.debug(MODELLOADING, "Saved {} baked models to cache", models.size());
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn(MODELLOADING, "Failed to write baked model cache", e);
+            try
+            {
+                Files.deleteIfExists(temp);
+            }
+            catch (IOException ignored) {}
+        }
+    }
+
+    private interface SpriteIds
+    {
+        int get(TextureAtlasSprite sprite);
+    }
+
+    private static void writeModel(DataOutputStream out, IBakedModel model, SpriteIds spriteIds) throws IOException
+    {
+        out.writeBoolean(model.isAmbientOcclusion());
+        out.writeBoolean(model.isGui3d());
+        out.writeInt(spriteIds.get(model.getParticleTexture()));
+        ItemCameraTransforms transforms = model.getItemCameraTransforms();
+        out.writeBoolean(transforms == ItemCameraTransforms.DEFAULT);
+        if (transforms != ItemCameraTransforms.DEFAULT)
+        {
+            out.writeUTF(writeTransforms(transforms).toString());
+        }
+        Random rand = new Random();
+        writeQuads(out, model.getQuads(null, null, rand), spriteIds);
+        for (Direction side : DIRECTIONS)
+        {
+            writeQuads(out, model.getQuads(null, side, rand), spriteIds);
+        }
+    }
+
+    private static IBakedModel readModel(DataInputStream in, TextureAtlasSprite[] sprites, float[][] oldBounds) throws IOException
+    {
+        boolean ambientOcclusion = in.readBoolean();
+        boolean gui3d = in.readBoolean();
+        TextureAtlasSprite particle = sprites[in.readInt()];
+        ItemCameraTransforms transforms = ItemCameraTransforms.DEFAULT;
+        if (!in.readBoolean())
+        {
+            transforms = ModelLoaderRegistry.ExpandedBlockModelDeserializer.INSTANCE.fromJson(in.readUTF(), ItemCameraTransforms.class);
+        }
+        List<BakedQuad> general = readQuads(in, sprites, oldBounds);
+        Map<Direction, List<BakedQuad>> faces = new EnumMap<>(Direction.class);
+        for (Direction side : DIRECTIONS)
+        {
+            faces.put(side, readQuads(in, sprites, oldBounds));
+        }
+        return new SimpleBakedModel(general, faces, ambientOcclusion, gui3d, particle, transforms, ItemOverrideList.EMPTY);
+    }
+
+    private static void writeQuads(DataOutputStream out, List<BakedQuad> quads, SpriteIds spriteIds) throws IOException
+    {
+        out.writeInt(quads.size());
+        for (BakedQuad quad : quads)
+        {
+            out.writeInt(spriteIds.get(quad.getSprite()));
+            out.writeInt(quad.getTintIndex());
+            out.writeByte(quad.getFace().ordinal());
+            out.writeBoolean(quad.shouldApplyDiffuseLighting());
+            for (int data : quad.getVertexData())
+            {
+                out.writeInt(data);
+            }
+        }
+    }
+
+    private static List<BakedQuad> readQuads(DataInputStream in, TextureAtlasSprite[] sprites, float[][] oldBounds) throws IOException
+    {
+        int count = in.readInt();
+        if (count == 0)
+            return ImmutableList.of();
+        List<BakedQuad> quads = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+        {
+            int spriteId = in.readInt();
+            int tint = in.readInt();
+            Direction face = DIRECTIONS[in.readByte()];
+            boolean diffuse = in.readBoolean();
+            int[] data = new int[STRIDE * 4];
+            for (int j = 0; j < data.length; j++)
+            {
+                data[j] = in.readInt();
+            }
+            remapUVs(data, oldBounds[spriteId], sprites[spriteId]);
+            quads.add(new BakedQuad(data, tint, face, sprites[spriteId], diffuse));
+        }
+        return quads;
+    }
+
+    private static void remapUVs(int[] data, float[] oldBounds, TextureAtlasSprite sprite)
+    {
+        if (oldBounds[0] == sprite.getMinU() && oldBounds[1] == sprite.getMaxU() && oldBounds[2] == sprite.getMinV() && oldBounds[3] == sprite.getMaxV())
+            return;
+        for (int v = 0; v < 4; v++)
+        {
+            int offset = v * STRIDE + UV;
+            float u = Float.intBitsToFloat(data[offset]);
+            float vv = Float.intBitsToFloat(data[offset + 1]);
+            u = sprite.getMinU() + (u - oldBounds[0]) / (oldBounds[1] - oldBounds[0]) * (sprite.getMaxU() - sprite.getMinU());
+            vv = sprite.getMinV() + (vv - oldBounds[2]) / (oldBounds[3] - oldBounds[2]) * (sprite.getMaxV() - sprite.getMinV());
+            data[offset] = Float.floatToRawIntBits(u);
+            data[offset + 1] = Float.floatToRawIntBits(vv);
+        }
+    }
+
+    /**
+     * Writes the transforms in the model JSON "display" format, so they are read back through the same deserializer models use.
+     */
+    private static JsonObject writeTransforms(ItemCameraTransforms transforms)
+    {
+        JsonObject json = new JsonObject();
+        json.add("thirdperson_lefthand", writeTransform(transforms.thirdperson_left));
+        json.add("thirdperson_righthand", writeTransform(transforms.thirdperson_right));
+        json.add("firstperson_lefthand", writeTransform(transforms.firstperson_left));
+        json.add("firstperson_righthand", writeTransform(transforms.firstperson_right));
+        json.add("head", writeTransform(transforms.head));
+        json.add("gui", writeTransform(transforms.gui));
+        json.add("ground", writeTransform(transforms.ground));
+        json.add("fixed", writeTransform(transforms.fixed));
+        return json;
+    }
+
+    private static JsonObject writeTransform(ItemTransformVec3f transform)
+    {
+        JsonObject json = new JsonObject();
+        json.add("rotation", writeVector(transform.rotation, 1));
+        // The deserializer scales translations down by 16, a power of two so this round trips exactly
+        json.add("translation", writeVector(transform.translation, 16));
+        json.add("scale", writeVector(transform.scale, 1));
+        return json;
+    }
+
+    private static JsonArray writeVector(Vector3f vec, float scale)
+    {
+        JsonArray json = new JsonArray();
+        json.add(vec.getX() * scale);
+        json.add(vec.getY() * scale);
+        json.add(vec.getZ() * scale);
+        return json;
+    }
+
+    private static int findUvOffset()
+    {
+        ImmutableList<VertexFormatElement> elements = DefaultVertexFormats.BLOCK.func_227894_c_();
+        for (int i = 0; i < elements.size(); i++)
+        {
+            VertexFormatElement e = elements.get(i);
+            if (e.getUsage() == VertexFormatElement.Usage.UV && e.getIndex() == 0)
+                return DefaultVertexFormats.BLOCK.getOffset(i);
+        }
+        throw new IllegalStateException("BLOCK format does not have UVs?");
+    }
+}
@@ -248,6 +248,12 @@ public class CompositeModel implements IDynamicBakedModel
 
         }
 
+        @Override
+        public boolean isBakeThreadSafe()
+        {
+            return true;
+        }
+
         @Override
         public Geometry read(JsonDeserializationContext deserializationContext, JsonObject modelContents)
         {
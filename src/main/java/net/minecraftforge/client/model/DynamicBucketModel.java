@@ -217,6 +217,12 @@ public final class DynamicBucketModel implements IModelGeometry<DynamicBucketMod
             // no need to clear cache since we create a new model instance
         }
 
+        @Override
+        public boolean isBakeThreadSafe()
+        {
+            return true;
+        }
+
         @Override
         public void onResourceManagerReload(IResourceManager resourceManager, Predicate<IResourceType> resourcePredicate)
         {
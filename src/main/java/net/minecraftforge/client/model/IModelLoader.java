@@ -50,4 +50,25 @@ public interface IModelLoader<T extends IModelGeometry<T>> extends ISelectiveRes
     }
 
     T read(JsonDeserializationContext deserializationContext, JsonObject modelContents);
+
+    /**
+     * Whether the geometry produced by this loader can be baked from several threads at once.
+     * Return true only if {@link IModelGeometry#bake} does not touch shared mutable state,
+     * and every nested model it bakes comes from loaders that are thread safe as well.
+     * Models using geometry from loaders that return false are always baked on the loading thread.
+     */
+    default boolean isBakeThreadSafe()
+    {
+        return false;
+    }
+
+    /**
+     * Whether models baked from this loader's geometry may be stored in the on-disk baked model cache.
+     * Only plain {@link net.minecraft.client.renderer.model.SimpleBakedModel}s are ever cached,
+     * so only return true if the baked result depends on nothing besides the resource packs and the mod list.
+     */
+    default boolean isBakeCacheable()
+    {
+        return false;
+    }
 }
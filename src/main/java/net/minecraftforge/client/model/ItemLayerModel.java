@@ -291,11 +291,11 @@ public final class ItemLayerModel implements IModelGeometry<ItemLayerModel>
     {
         private final EnumMap<Direction, BitSet> data = new EnumMap<>(Direction.class);
 
-        private final int vMax;
+        private final int uMax;
 
         FaceData(int uMax, int vMax)
         {
-            this.vMax = vMax;
+            this.uMax = uMax;
 
             data.put(Direction.WEST, new BitSet(uMax * vMax));
             data.put(Direction.EAST, new BitSet(uMax * vMax));
@@ -315,7 +315,7 @@ public final class ItemLayerModel implements IModelGeometry<ItemLayerModel>
 
         private int getIndex(int u, int v)
         {
-            return v * vMax + u;
+            return v * uMax + u;
         }
     }
 
@@ -30,6 +30,7 @@ import net.minecraftforge.client.model.pipeline.BakedQuadBuilder;
 import net.minecraftforge.client.model.pipeline.IVertexConsumer;
 import net.minecraftforge.client.model.pipeline.TRSRTransformer;
 
+import java.util.BitSet;
 import java.util.List;
 
 public final class ItemTextureQuadConverter
@@ -41,11 +42,8 @@ public final class ItemTextureQuadConverter
 
     /**
      * Takes a texture and converts it into BakedQuads.
-     * The conversion is done by scanning the texture horizontally and vertically and creating "strips" of the texture.
-     * Strips that are of the same size and follow each other are converted into one bigger quad.
-     * </br>
-     * The resulting list of quads is the texture represented as a list of horizontal OR vertical quads,
-     * depending on which creates less quads. If the amount of quads is equal, horizontal is preferred.
+     * The conversion greedily merges the visible pixels of the texture into as few rectangles as it can,
+     * see {@link #convertTextureGreedy}.
      *
      * @param format
      * @param template The input texture to convert
@@ -54,10 +52,78 @@ public final class ItemTextureQuadConverter
      */
     public static List<BakedQuad> convertTexture(TransformationMatrix transform, TextureAtlasSprite template, TextureAtlasSprite sprite, float z, Direction facing, int color, int tint)
     {
-        List<BakedQuad> horizontal = convertTextureHorizontal(transform, template, sprite, z, facing, color, tint);
-        List<BakedQuad> vertical = convertTextureVertical(transform, template, sprite, z, facing, color, tint);
+        return convertTextureGreedy(transform, template, sprite, z, facing, color, tint);
+    }
+
+    /**
+     * Scans a texture and covers its visible pixels with rectangles, each grown as wide and then as tall as possible.
+     * Usually produces far fewer quads than whole-row strips, and covers exactly the same pixels.
+     */
+    public static List<BakedQuad> convertTextureGreedy(TransformationMatrix transform, TextureAtlasSprite template, TextureAtlasSprite sprite, float z, Direction facing, int color, int tint)
+    {
+        int w = template.getWidth();
+        int h = template.getHeight();
+        float wScale = 16f / (float)w;
+        float hScale = 16f / (float)h;
+        List<BakedQuad> quads = Lists.newArrayList();
+
+        // visible pixels not yet covered by a quad
+        BitSet open = new BitSet(w * h);
+        for (int y = 0; y < h; y++)
+        {
+            for (int x = 0; x < w; x++)
+            {
+                if (!template.isPixelTransparent(0, x, y))
+                {
+                    open.set(y * w + x);
+                }
+            }
+        }
 
-        return horizontal.size() <= vertical.size() ? horizontal : vertical;
+        for (int[] rect : coverGreedy(open, w, h))
+        {
+            quads.add(genQuad(transform,
+                              (float)rect[0] * wScale,
+                              (float)rect[1] * hScale,
+                              (float)rect[2] * wScale,
+                              (float)rect[3] * hScale,
+                              z, sprite, facing, color, tint));
+        }
+
+        return quads;
+    }
+
+    /**
+     * Covers the set bits of a row-major {@code w * h} pixel mask with non-overlapping rectangles,
+     * each grown as wide and then as tall as possible. Clears the mask as it goes.
+     *
+     * @return the rectangles as {@code {x1, y1, x2, y2}} pixel coordinates, end exclusive.
+     */
+    static List<int[]> coverGreedy(BitSet open, int w, int h)
+    {
+        List<int[]> rects = Lists.newArrayList();
+        for (int start = open.nextSetBit(0); start >= 0; start = open.nextSetBit(start + 1))
+        {
+            int x = start % w;
+            int y = start / w;
+
+            int endX = x + 1;
+            while (endX < w && open.get(y * w + endX))
+            {
+                endX++;
+            }
+            int endY = y + 1;
+            while (endY < h && open.nextClearBit(endY * w + x) >= endY * w + endX)
+            {
+                endY++;
+            }
+            for (int row = y; row < endY; row++)
+            {
+                open.clear(row * w + x, row * w + endX);
+            }
+            rects.add(new int[] { x, y, endX, endY });
+        }
+        return rects;
     }
 
     /**
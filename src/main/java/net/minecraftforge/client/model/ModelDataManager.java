@@ -20,16 +20,19 @@
 package net.minecraftforge.client.model;
 
 import java.lang.ref.WeakReference;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.annotation.Nullable;
 
 import com.google.common.base.Preconditions;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.client.Minecraft;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
@@ -42,14 +45,28 @@ import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber.Bus;
 
+/**
+ * Caches {@link IModelData} per chunk for the client world.
+ * <p>
+ * Pending refreshes are owned by the client thread. Refresh requests from other threads are queued
+ * and applied on the next lookup from the client thread. Lookups from other threads, such as chunk
+ * render workers, are read-only: they see the data as of the last refresh and never apply pending ones.
+ * <p>
+ * Each refresh publishes a new immutable snapshot of the chunk's data, keyed by {@link BlockPos#toLong()},
+ * so a snapshot handed out once never changes while it is being read.
+ */
 @EventBusSubscriber(modid = "forge", bus = Bus.FORGE, value = Dist.CLIENT)
 public class ModelDataManager
 {
-    private static WeakReference<World> currentWorld = new WeakReference<>(null);
-    
-    private static final Map<ChunkPos, Set<BlockPos>> needModelDataRefresh = new ConcurrentHashMap<>();
-    
-    private static final Map<ChunkPos, Map<BlockPos, IModelData>> modelDataCache = new ConcurrentHashMap<>();
+    private static volatile WeakReference<World> currentWorld = new WeakReference<>(null);
+
+    // Packed chunk position -> packed block positions waiting for a refresh, only touched on the client thread
+    private static final Long2ObjectMap<LongSet> needModelDataRefresh = new Long2ObjectOpenHashMap<>();
+
+    // Packed chunk position -> model data snapshot, read from any thread but only written on the client thread, guarded by itself
+    private static final Long2ObjectMap<Long2ObjectMap<IModelData>> modelDataCache = new Long2ObjectOpenHashMap<>();
+
+    private static final Queue<TileEntity> offThreadRequests = new ConcurrentLinkedQueue<>();
 
     private static void cleanCaches(World world)
     {
@@ -59,62 +76,131 @@ public class ModelDataManager
         {
             currentWorld = new WeakReference<>(world);
             needModelDataRefresh.clear();
-            modelDataCache.clear();
+            synchronized (modelDataCache)
+            {
+                modelDataCache.clear();
+            }
         }
     }
-    
+
     public static void requestModelDataRefresh(TileEntity te)
     {
         Preconditions.checkNotNull(te, "Tile entity must not be null");
+        if (!Minecraft.getInstance().isOnExecutionThread())
+        {
+            offThreadRequests.add(te);
+            return;
+        }
         World world = te.getWorld();
 
         cleanCaches(world);
-        needModelDataRefresh.computeIfAbsent(new ChunkPos(te.getPos()), $ -> Collections.synchronizedSet(new HashSet<>()))
-                            .add(te.getPos());
+        addRefresh(te.getPos());
+    }
+
+    private static void addRefresh(BlockPos pos)
+    {
+        long chunk = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        LongSet positions = needModelDataRefresh.get(chunk);
+        if (positions == null)
+        {
+            positions = new LongOpenHashSet();
+            needModelDataRefresh.put(chunk, positions);
+        }
+        // Repeated requests within a frame collapse into one refresh
+        positions.add(pos.toLong());
+    }
+
+    private static void drainOffThreadRequests(World world)
+    {
+        TileEntity te;
+        while ((te = offThreadRequests.poll()) != null)
+        {
+            if (te.getWorld() == world)
+                addRefresh(te.getPos());
+        }
     }
-    
-    private static void refreshModelData(World world, ChunkPos chunk)
-    {        
+
+    private static void refreshModelData(World world, long chunk)
+    {
         cleanCaches(world);
-        Set<BlockPos> needUpdate = needModelDataRefresh.remove(chunk);
+        drainOffThreadRequests(world);
+        LongSet needUpdate = needModelDataRefresh.remove(chunk);
 
         if (needUpdate != null)
         {
-            Map<BlockPos, IModelData> data = modelDataCache.computeIfAbsent(chunk, $ -> new ConcurrentHashMap<>());
-            for (BlockPos pos : needUpdate)
+            Long2ObjectMap<IModelData> data = new Long2ObjectOpenHashMap<>(getSnapshot(chunk));
+            BlockPos.Mutable mutable = new BlockPos.Mutable();
+            for (LongIterator it = needUpdate.iterator(); it.hasNext(); )
             {
-                TileEntity toUpdate = world.getTileEntity(pos);
-                if (toUpdate != null && !toUpdate.isRemoved())
+                long packed = it.nextLong();
+                mutable.setPos(BlockPos.unpackX(packed), BlockPos.unpackY(packed), BlockPos.unpackZ(packed));
+                TileEntity toUpdate = world.getTileEntity(mutable);
+                IModelData modelData = toUpdate != null && !toUpdate.isRemoved() ? toUpdate.getModelData() : null;
+                if (modelData != null)
                 {
-                    data.put(pos, toUpdate.getModelData());
+                    data.put(packed, modelData);
                 }
                 else
                 {
-                    data.remove(pos);
+                    data.remove(packed);
                 }
             }
+            synchronized (modelDataCache)
+            {
+                if (data.isEmpty())
+                    modelDataCache.remove(chunk);
+                else
+                    modelDataCache.put(chunk, Long2ObjectMaps.unmodifiable(data));
+            }
+        }
+    }
+
+    private static Long2ObjectMap<IModelData> getSnapshot(long chunk)
+    {
+        Long2ObjectMap<IModelData> data;
+        synchronized (modelDataCache)
+        {
+            data = modelDataCache.get(chunk);
         }
+        return data == null ? Long2ObjectMaps.emptyMap() : data;
     }
-    
+
     @SubscribeEvent
     public static void onChunkUnload(ChunkEvent.Unload event)
     {
         if (!event.getChunk().getWorldForge().isRemote()) return;
-        
-        ChunkPos chunk = event.getChunk().getPos();
+
+        long chunk = event.getChunk().getPos().asLong();
         needModelDataRefresh.remove(chunk);
-        modelDataCache.remove(chunk);
+        synchronized (modelDataCache)
+        {
+            modelDataCache.remove(chunk);
+        }
     }
-    
+
     public static @Nullable IModelData getModelData(World world, BlockPos pos)
     {
-        return getModelData(world, new ChunkPos(pos)).get(pos);
+        return getModelData(world, ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4)).get(pos.toLong());
     }
-    
-    public static Map<BlockPos, IModelData> getModelData(World world, ChunkPos pos)
+
+    public static Long2ObjectMap<IModelData> getModelData(World world, ChunkPos pos)
+    {
+        return getModelData(world, pos.asLong());
+    }
+
+    /**
+     * On the client thread this applies any pending refreshes for the chunk first. On any other thread
+     * it only reads the data as of the last refresh, and returns nothing for a world that is not current.
+     *
+     * @return an immutable snapshot of the model data in the chunk, keyed by {@link BlockPos#toLong()}.
+     */
+    public static Long2ObjectMap<IModelData> getModelData(World world, long chunkPos)
     {
         Preconditions.checkArgument(world.isRemote, "Cannot request model data for server world");
-        refreshModelData(world, pos);
-        return modelDataCache.getOrDefault(pos, Collections.emptyMap());
+        if (Minecraft.getInstance().isOnExecutionThread())
+            refreshModelData(world, chunkPos);
+        else if (world != currentWorld.get())
+            return Long2ObjectMaps.emptyMap();
+        return getSnapshot(chunkPos);
     }
 }
@@ -19,9 +19,17 @@
 
 package net.minecraftforge.client.model;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.stream.Collectors;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.color.BlockColors;
@@ -29,14 +37,19 @@ import net.minecraft.client.renderer.model.*;
 import net.minecraft.client.renderer.texture.MissingTextureSprite;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.client.renderer.texture.AtlasTexture;
+import net.minecraft.client.renderer.TransformationMatrix;
 import net.minecraft.profiler.IProfiler;
 import net.minecraft.resources.IResourceManager;
 import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.client.model.geometry.IModelGeometry;
+import net.minecraftforge.common.ForgeConfig;
 import net.minecraftforge.logging.ModelLoaderErrorMessage;
 
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import com.google.common.collect.Maps;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -52,6 +65,16 @@ public final class ModelLoader extends ModelBakery
 
     private boolean isLoading = false;
 
+    // Results of the parallel baking stage, either an IBakedModel or the RuntimeException thrown while baking it
+    private Map<ResourceLocation, Object> parallelResults = null;
+    private final ConcurrentMap<Triple<ResourceLocation, TransformationMatrix, Boolean>, IBakedModel> parallelCache = new ConcurrentHashMap<>();
+    private volatile boolean bakingInParallel = false;
+    // Models restored from the on-disk cache, and the fingerprint to save under if anything had to be baked
+    private Map<ResourceLocation, IBakedModel> diskCachedModels = null;
+    @Nullable
+    private String cacheFingerprint = null;
+    private final Map<ResourceLocation, IBakedModel> bakedTopModels = Maps.newHashMap();
+
     private static ModelLoader instance;
 
     @Nullable
@@ -154,6 +177,174 @@ public final class ModelLoader extends ModelBakery
         }
     }
 
+    @Override
+    @Nullable
+    protected IBakedModel bakeTopModel(ResourceLocation location)
+    {
+        if (parallelResults == null)
+        {
+            loadDiskCache();
+            parallelResults = ForgeConfig.CLIENT.parallelModelBaking.get() ? bakeInParallel() : Maps.newHashMap();
+        }
+        IBakedModel model = diskCachedModels.get(location);
+        if (model == null)
+        {
+            Object result = parallelResults.get(location);
+            if (result instanceof RuntimeException)
+            {
+                // Rethrow so the vanilla loop logs it exactly like a serial failure
+                throw (RuntimeException) result;
+            }
+            model = result != null ? (IBakedModel) result : super.bakeTopModel(location);
+        }
+        // Recorded here rather than after ModelBakeEvent, so models replaced by mods are never cached
+        if (cacheFingerprint != null && model != null)
+            bakedTopModels.put(location, model);
+        return model;
+    }
+
+    private Map<ResourceLocation, Object> bakeInParallel()
+    {
+        Set<ResourceLocation> candidates = getTopUnbakedModels().keySet().stream()
+                .filter(location -> !diskCachedModels.containsKey(location))
+                .filter(location -> closureAllows(location, ModelLoaderRegistry::requiresSerialBake, false))
+                .collect(Collectors.toSet());
+        Map<ResourceLocation, Object> results = new ConcurrentHashMap<>();
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), ModelLoader::newForkJoinWorkerThread, null, false);
+        bakingInParallel = true;
+        try
+        {
+            pool.submit(() -> candidates.parallelStream().forEach(location -> {
+                try
+                {
+                    IBakedModel model = getBakedModel(location, ModelRotation.X0_Y0, getSpriteMap()::func_229151_a_);
+                    if (model != null)
+                        results.put(location, model);
+                }
+                catch (RuntimeException e)
+                {
+                    results.put(location, e);
+                }
+            })).join();
+        }
+        finally
+        {
+            bakingInParallel = false;
+            pool.shutdown();
+        }
+        LOGGER.debug(MODELLOADING, "Baked {} of {} top level models in parallel", results.size(), getTopUnbakedModels().size());
+        return results;
+    }
+
+    private static ForkJoinWorkerThread newForkJoinWorkerThread(ForkJoinPool pool)
+    {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("model-baking-worker-" + thread.getPoolIndex());
+        // The default sets it to the SystemClassloader, so copy the current one.
+        thread.setContextClassLoader(Thread.currentThread().getContextClassLoader());
+        return thread;
+    }
+
+    private void loadDiskCache()
+    {
+        diskCachedModels = Collections.emptyMap();
+        if (!ForgeConfig.CLIENT.bakedModelCache.get())
+            return;
+        String fingerprint = BakedModelCache.computeFingerprint();
+        if (fingerprint == null)
+            return;
+        Map<ResourceLocation, IBakedModel> models = BakedModelCache.load(fingerprint, getSpriteMap()::func_229151_a_);
+        if (models == null)
+        {
+            // Bake everything and save the result for the next launch
+            cacheFingerprint = fingerprint;
+            return;
+        }
+        diskCachedModels = Maps.newHashMapWithExpectedSize(models.size());
+        for (Map.Entry<ResourceLocation, IBakedModel> entry : models.entrySet())
+        {
+            if (getTopUnbakedModels().containsKey(entry.getKey()) && isDiskCacheable(entry.getKey()))
+                diskCachedModels.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private boolean isDiskCacheable(ResourceLocation location)
+    {
+        return closureAllows(location, geometry -> !ModelLoaderRegistry.isBakeCacheable(geometry), true);
+    }
+
+    private void saveDiskCache()
+    {
+        Function<Material, TextureAtlasSprite> spriteGetter = getSpriteMap()::func_229151_a_;
+        Map<ResourceLocation, IBakedModel> toSave = Maps.newHashMap();
+        for (Map.Entry<ResourceLocation, IBakedModel> entry : bakedTopModels.entrySet())
+        {
+            if (isDiskCacheable(entry.getKey()) && BakedModelCache.canCache(entry.getValue(), spriteGetter))
+                toSave.put(entry.getKey(), entry.getValue());
+        }
+        BakedModelCache.save(cacheFingerprint, toSave);
+    }
+
+    /**
+     * Walks the dependency closure of a top level model, returning false if any of it uses geometry matching
+     * the given predicate or, unless allowed, the vanilla generated item path (which shares the bakery cache).
+     */
+    private boolean closureAllows(ResourceLocation location, Predicate<IModelGeometry<?>> rejectGeometry, boolean allowGenerated)
+    {
+        Set<ResourceLocation> visited = new HashSet<>();
+        Deque<ResourceLocation> queue = new ArrayDeque<>();
+        queue.add(location);
+        while (!queue.isEmpty())
+        {
+            ResourceLocation current = queue.poll();
+            if (!visited.add(current))
+                continue;
+            IUnbakedModel model = getModelOrMissing(current);
+            if (!allowGenerated && isGeneratedItemModel(model))
+                return false;
+            if (model instanceof BlockModel)
+            {
+                IModelGeometry<?> geometry = ((BlockModel) model).customData.getCustomGeometry();
+                if (geometry != null && rejectGeometry.test(geometry))
+                    return false;
+            }
+            queue.addAll(model.getDependencies());
+        }
+        return true;
+    }
+
+    @Override
+    @Nullable
+    public IBakedModel getBakedModel(ResourceLocation location, IModelTransform transform, Function<Material, TextureAtlasSprite> textureGetter)
+    {
+        Triple<ResourceLocation, TransformationMatrix, Boolean> key = Triple.of(location, transform.func_225615_b_(), transform.isUvLock());
+        IBakedModel cached = parallelCache.get(key);
+        if (cached != null)
+            return cached;
+        if (!bakingInParallel)
+            return super.getBakedModel(location, transform, textureGetter);
+
+        IUnbakedModel unbaked;
+        synchronized (this)
+        {
+            unbaked = getUnbakedModel(location);
+        }
+        if (isGeneratedItemModel(unbaked))
+        {
+            // Goes through the vanilla cache, which is not safe for concurrent access
+            synchronized (this)
+            {
+                return super.getBakedModel(location, transform, textureGetter);
+            }
+        }
+        // Not computeIfAbsent, baking recursively requests the models this one depends on
+        IBakedModel baked = unbaked.func_225613_a_(this, textureGetter, transform, location);
+        if (baked == null)
+            return null;
+        IBakedModel previous = parallelCache.putIfAbsent(key, baked);
+        return previous != null ? previous : baked;
+    }
+
     // Temporary to compile things
     public static final class White {
         public static final ResourceLocation LOCATION = new ResourceLocation("white");
@@ -229,6 +420,8 @@ public final class ModelLoader extends ModelBakery
      */
     public void onPostBakeEvent(Map<ResourceLocation, IBakedModel> modelRegistry)
     {
+        if (cacheFingerprint != null)
+            saveDiskCache();
         IBakedModel missingModel = modelRegistry.get(MODEL_MISSING);
         for(Map.Entry<ResourceLocation, Exception> entry : loadingExceptions.entrySet())
         {
@@ -245,6 +438,11 @@ public final class ModelLoader extends ModelBakery
             }
         }
         loadingExceptions.clear();
+        parallelResults = null;
+        parallelCache.clear();
+        diskCachedModels = null;
+        cacheFingerprint = null;
+        bakedTopModels.clear();
         isLoading = false;
     }
 
@@ -21,6 +21,7 @@ package net.minecraftforge.client.model;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.gson.*;
@@ -54,6 +55,11 @@ import java.util.regex.Pattern;
 public class ModelLoaderRegistry
 {
     private static final Map<ResourceLocation, IModelLoader<?>> loaders = Maps.newHashMap();
+    private static final int SERIAL_BAKE = 1;
+    private static final int UNCACHEABLE = 2;
+    private static final Map<IModelGeometry<?>, Integer> geometryFlags = new MapMaker().weakKeys().makeMap();
+    // Flags of the geometry read so far while reading the enclosing geometry, so wrappers inherit them
+    private static final ThreadLocal<int[]> nestedFlags = ThreadLocal.withInitial(() -> new int[1]);
 
     // Forge built-in loaders
     public static void init()
@@ -87,7 +93,26 @@ public class ModelLoaderRegistry
 
             IModelLoader<?> loader = loaders.get(loaderId);
 
-            return loader.read(deserializationContext, data);
+            int[] nested = nestedFlags.get();
+            int outer = nested[0];
+            nested[0] = 0;
+            try
+            {
+                IModelGeometry<?> geometry = loader.read(deserializationContext, data);
+                int flags = nested[0];
+                if (!loader.isBakeThreadSafe())
+                    flags |= SERIAL_BAKE;
+                if (!loader.isBakeCacheable())
+                    flags |= UNCACHEABLE;
+                if (flags != 0)
+                    geometryFlags.put(geometry, flags);
+                outer |= flags;
+                return geometry;
+            }
+            finally
+            {
+                nested[0] = outer;
+            }
         }
         catch(Exception e)
         {
@@ -96,6 +121,24 @@ public class ModelLoaderRegistry
         }
     }
 
+    /**
+     * @return true if the geometry came from a loader that is not {@link IModelLoader#isBakeThreadSafe() thread safe},
+     *         or wraps geometry that did.
+     */
+    public static boolean requiresSerialBake(IModelGeometry<?> geometry)
+    {
+        return (geometryFlags.getOrDefault(geometry, 0) & SERIAL_BAKE) != 0;
+    }
+
+    /**
+     * @return false if the geometry came from a loader that opted out of the {@link IModelLoader#isBakeCacheable() baked model cache},
+     *         or wraps geometry that did.
+     */
+    public static boolean isBakeCacheable(IModelGeometry<?> geometry)
+    {
+        return (geometryFlags.getOrDefault(geometry, 0) & UNCACHEABLE) == 0;
+    }
+
     @Nullable
     public static IModelGeometry<?> deserializeGeometry(JsonDeserializationContext deserializationContext, JsonObject object) {
         if (!object.has("loader")) {
@@ -297,6 +340,12 @@ public class ModelLoaderRegistry
 
             }
 
+            @Override
+            public boolean isBakeThreadSafe()
+            {
+                return true;
+            }
+
             @Override
             public VanillaProxy read(JsonDeserializationContext deserializationContext, JsonObject modelContents)
             {
@@ -39,6 +39,8 @@ import net.minecraft.resources.IResourceManager;
 import net.minecraft.util.Direction;
 import net.minecraft.util.JSONUtils;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.ILightReader;
 import net.minecraftforge.client.MinecraftForgeClient;
 
 import net.minecraftforge.client.model.data.EmptyModelData;
@@ -99,9 +101,10 @@ public final class MultiLayerModel implements IModelGeometry<MultiLayerModel>
                 PerspectiveMapWrapper.getTransforms(new ModelTransformComposition(owner.getCombinedTransform(), modelTransform)));
     }
 
-    private static final class MultiLayerBakedModel implements IBakedModel
+    public static final class MultiLayerBakedModel implements IBakedModel
     {
         private final ImmutableMap<RenderType, IBakedModel> models;
+        private final ImmutableMap<RenderType, IBakedModel> layerModels;
         private final ImmutableMap<TransformType, TransformationMatrix> cameraTransforms;
         protected final boolean ambientOcclusion;
         protected final boolean gui3d;
@@ -114,6 +117,10 @@ public final class MultiLayerModel implements IModelGeometry<MultiLayerModel>
                 ImmutableMap<RenderType, IBakedModel> models, IBakedModel missing, ImmutableMap<TransformType, TransformationMatrix> cameraTransforms)
         {
             this.models = models;
+            ImmutableMap.Builder<RenderType, IBakedModel> layerModels = ImmutableMap.builder();
+            for (Map.Entry<RenderType, IBakedModel> entry : models.entrySet())
+                layerModels.put(entry.getKey(), new LayerModel(entry.getValue()));
+            this.layerModels = layerModels.build();
             this.cameraTransforms = cameraTransforms;
             this.missing = missing;
             this.ambientOcclusion = ambientOcclusion;
@@ -122,6 +129,17 @@ public final class MultiLayerModel implements IModelGeometry<MultiLayerModel>
             this.overrides = overrides;
         }
 
+        /**
+         * The child model for the given layer, or null if this model has nothing to render in it.
+         * Used by the chunk rebuild to render a layer's quads without going through the thread-local render layer.
+         * The returned model keeps this model's ambient occlusion and model data, only its quads come from the child.
+         */
+        @Nullable
+        public IBakedModel getLayerModel(RenderType layer)
+        {
+            return layerModels.get(layer);
+        }
+
         @Override
         public List<BakedQuad> getQuads(@Nullable BlockState state, @Nullable Direction side, Random rand)
         {
@@ -193,6 +211,33 @@ public final class MultiLayerModel implements IModelGeometry<MultiLayerModel>
         {
             return ItemOverrideList.EMPTY;
         }
+
+        private final class LayerModel extends BakedModelWrapper<IBakedModel>
+        {
+            private LayerModel(IBakedModel originalModel)
+            {
+                super(originalModel);
+            }
+
+            @Override
+            public boolean isAmbientOcclusion()
+            {
+                return ambientOcclusion;
+            }
+
+            @Override
+            public boolean isAmbientOcclusion(BlockState state)
+            {
+                return ambientOcclusion;
+            }
+
+            @Nonnull
+            @Override
+            public IModelData getModelData(@Nonnull ILightReader world, @Nonnull BlockPos pos, @Nonnull BlockState state, @Nonnull IModelData tileData)
+            {
+                return tileData;
+            }
+        }
     }
 
     public static final class Loader implements IModelLoader<MultiLayerModel>
@@ -207,6 +252,12 @@ public final class MultiLayerModel implements IModelGeometry<MultiLayerModel>
 
         }
 
+        @Override
+        public boolean isBakeThreadSafe()
+        {
+            return true;
+        }
+
         @Override
         public MultiLayerModel read(JsonDeserializationContext deserializationContext, JsonObject modelContents)
         {
@@ -307,6 +307,9 @@ public class ModelBlockAnimation
         {
             private final boolean loop;
             private final ImmutableList<MBVariableClip> variables;
+            // Poses per sample, baked up front when no variable needs interpolation
+            @Nullable
+            private final TransformationMatrix[] palette;
 
             public MBJointClip(boolean loop, ImmutableList<MBVariableClip> variables)
             {
@@ -321,19 +324,29 @@ public class ModelBlockAnimation
                     }
                     hadVar.add(var.variable);
                 }
+                this.palette = bakePalette(variables, this);
             }
 
             @Override
             public TransformationMatrix apply(float time)
             {
                 time -= Math.floor(time);
-                Vector3f translation = new Vector3f(0, 0, 0);
-                Vector3f scale = new Vector3f(1, 1, 1);
-                Vector3f origin = new Vector3f(0, 0, 0);
-                Vector3f rotation_axis = new Vector3f(0, 0, 0);
-                float rotation_angle = 0;
-                for(MBVariableClip var : variables)
+                if(palette != null)
                 {
+                    if(variables.isEmpty()) return palette[0];
+                    // Every variable is NEAREST with the same sample count, so the pose only depends on the chosen sample
+                    int length = loop ? palette.length : (palette.length - 1);
+                    float timeScaled = time * length;
+                    int s1 = MathHelper.clamp((int)Math.round(Math.floor(timeScaled)), 0, length - 1);
+                    float progress = timeScaled - s1;
+                    int s2 = s1 + 1;
+                    if(s2 == length && loop) s2 = 0;
+                    return palette[progress < .5f ? s1 : s2];
+                }
+                float[] values = new float[variables.size()];
+                for(int i = 0; i < values.length; i++)
+                {
+                    MBVariableClip var = variables.get(i);
                     int length = loop ? var.samples.length : (var.samples.length - 1);
                     float timeScaled = time * length;
                     int s1 = MathHelper.clamp((int)Math.round(Math.floor(timeScaled)), 0, length - 1);
@@ -360,6 +373,22 @@ public class ModelBlockAnimation
                             value = var.samples[progress < .5f ? s1 : s2];
                             break;
                     }
+                    values[i] = value;
+                }
+                return pose(values);
+            }
+
+            private TransformationMatrix pose(float[] values)
+            {
+                Vector3f translation = new Vector3f(0, 0, 0);
+                Vector3f scale = new Vector3f(1, 1, 1);
+                Vector3f origin = new Vector3f(0, 0, 0);
+                Vector3f rotation_axis = new Vector3f(0, 0, 0);
+                float rotation_angle = 0;
+                for(int i = 0; i < values.length; i++)
+                {
+                    MBVariableClip var = variables.get(i);
+                    float value = values[i];
                     switch(var.variable)
                     {
                         case X:
@@ -413,6 +442,29 @@ public class ModelBlockAnimation
                 base = new TransformationMatrix(origin, null, null, null).compose(base).compose(new TransformationMatrix(negOrigin, null, null, null));
                 return base.blockCenterToCorner();
             }
+
+            @Nullable
+            private static TransformationMatrix[] bakePalette(ImmutableList<MBVariableClip> variables, MBJointClip clip)
+            {
+                int samples = variables.isEmpty() ? 1 : -1;
+                for(MBVariableClip var : variables)
+                {
+                    if(var.interpolation != Interpolation.NEAREST) return null;
+                    if(samples == -1) samples = var.samples.length;
+                    else if(samples != var.samples.length) return null;
+                }
+                TransformationMatrix[] palette = new TransformationMatrix[samples];
+                float[] values = new float[variables.size()];
+                for(int k = 0; k < samples; k++)
+                {
+                    for(int i = 0; i < values.length; i++)
+                    {
+                        values[i] = variables.get(i).samples[k];
+                    }
+                    palette[k] = clip.pose(values);
+                }
+                return palette;
+            }
         }
     }
 
@@ -19,22 +19,34 @@
 
 package net.minecraftforge.client.model.animation;
 
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
 import com.mojang.blaze3d.matrix.MatrixStack;
 
+import org.apache.commons.lang3.tuple.Pair;
+
 import net.minecraft.block.BlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.Atlases;
 import net.minecraft.client.renderer.BlockRendererDispatcher;
 import net.minecraft.client.renderer.IRenderTypeBuffer;
+import net.minecraft.client.renderer.model.BakedQuad;
 import net.minecraft.client.renderer.model.IBakedModel;
 import net.minecraft.client.renderer.tileentity.TileEntityRenderer;
 import net.minecraft.client.renderer.tileentity.TileEntityRendererDispatcher;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.ILightReader;
 import net.minecraftforge.client.MinecraftForgeClient;
+import net.minecraftforge.client.model.BakedModelWrapper;
 import net.minecraftforge.client.model.ModelDataManager;
 import net.minecraftforge.client.model.data.IModelData;
 import net.minecraftforge.common.animation.Event;
@@ -55,7 +67,21 @@ public class TileEntityRendererAnimation<T extends TileEntity> extends TileEntit
     }
 
     protected static BlockRendererDispatcher blockRenderer;
-    
+
+    private final Map<Pair<IBakedModel, BlockState>, Keyframe> keyframes = new HashMap<>();
+    private long keyframeIndex = Long.MIN_VALUE;
+    private final Random random = new Random();
+
+    /**
+     * Length in seconds of the window in which the quads generated for a pose are reused, 0 by default which disables caching.
+     * Within a window all tile entities with the same model and state share the quads of the first one rendered,
+     * so only return a positive value if the pose depends on nothing but the world time.
+     */
+    protected float getKeyframeInterval()
+    {
+        return 0;
+    }
+
     @Override
     public void func_225616_a_(T te, float partialTick, MatrixStack mat, IRenderTypeBuffer renderer, int light, int otherlight)
     {
@@ -78,13 +104,64 @@ public class TileEntityRendererAnimation<T extends TileEntity> extends TileEntit
                 .ifPresent(pair -> {
                     handleEvents(te, time, pair.getRight());
 
-                    // TODO: caching?
                     data.setData(Properties.AnimationProperty, pair.getLeft());
-                    blockRenderer.getBlockModelRenderer().renderModel(world, model, state, pos, mat, renderer.getBuffer(Atlases.func_228782_g_()), false, new Random(), 42, light, data);
+                    IBakedModel toRender = getKeyframe(model, state, time, data);
+                    blockRenderer.getBlockModelRenderer().renderModel(world, toRender, state, pos, mat, renderer.getBuffer(Atlases.func_228782_g_()), false, random, 42, light, data);
                 });
         }
     }
 
+    private IBakedModel getKeyframe(IBakedModel model, BlockState state, float time, IModelData data)
+    {
+        float interval = getKeyframeInterval();
+        if (interval <= 0)
+        {
+            keyframes.clear();
+            return model;
+        }
+        long index = (long) Math.floor(time / interval);
+        if (index != keyframeIndex)
+        {
+            // Only the current window is kept, its quads are reused until the window ends
+            keyframes.clear();
+            keyframeIndex = index;
+        }
+        return keyframes.computeIfAbsent(Pair.of(model, state), key -> new Keyframe(model, state, data, random));
+    }
+
     @Override
     public void handleEvents(T te, float time, Iterable<Event> pastEvents) {}
+
+    private static final class Keyframe extends BakedModelWrapper<IBakedModel>
+    {
+        private static final Direction[] SIDES = Direction.values();
+
+        private final List<BakedQuad> generalQuads;
+        private final Map<Direction, List<BakedQuad>> faceQuads = new EnumMap<>(Direction.class);
+
+        Keyframe(IBakedModel model, BlockState state, IModelData data, Random rand)
+        {
+            super(model);
+            rand.setSeed(42);
+            this.generalQuads = model.getQuads(state, null, rand, data);
+            for (Direction side : SIDES)
+            {
+                rand.setSeed(42);
+                faceQuads.put(side, model.getQuads(state, side, rand, data));
+            }
+        }
+
+        @Override
+        public List<BakedQuad> getQuads(@Nullable BlockState state, @Nullable Direction side, Random rand)
+        {
+            return side == null ? generalQuads : faceQuads.get(side);
+        }
+
+        @Nonnull
+        @Override
+        public List<BakedQuad> getQuads(@Nullable BlockState state, @Nullable Direction side, @Nonnull Random rand, @Nonnull IModelData extraData)
+        {
+            return getQuads(state, side, rand);
+        }
+    }
 }
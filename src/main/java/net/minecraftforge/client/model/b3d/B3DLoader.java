@@ -21,8 +21,10 @@ package net.minecraftforge.client.model.b3d;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -51,7 +53,6 @@ import net.minecraftforge.common.model.*;
 import net.minecraftforge.resource.IResourceType;
 import net.minecraftforge.resource.ISelectiveResourceReloadListener;
 import org.apache.commons.io.IOUtils;
-import org.apache.commons.lang3.tuple.Triple;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -75,6 +76,7 @@ import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.MathHelper;
 import net.minecraftforge.client.model.b3d.B3DModel.Animation;
 import net.minecraftforge.client.model.b3d.B3DModel.Face;
+import net.minecraftforge.client.model.b3d.B3DModel.JointPalette;
 import net.minecraftforge.client.model.b3d.B3DModel.Key;
 import net.minecraftforge.client.model.b3d.B3DModel.Mesh;
 import net.minecraftforge.client.model.b3d.B3DModel.Node;
@@ -267,18 +269,6 @@ public enum B3DLoader implements ISelectiveResourceReloadListener
             return nodeTransform;
         }
 
-        private static LoadingCache<Triple<Animation, Node<?>, Integer>, TransformationMatrix> cache = CacheBuilder.newBuilder()
-            .maximumSize(16384)
-            .expireAfterAccess(2, TimeUnit.MINUTES)
-            .build(new CacheLoader<Triple<Animation, Node<?>, Integer>, TransformationMatrix>()
-            {
-                @Override
-                public TransformationMatrix load(Triple<Animation, Node<?>, Integer> key) throws Exception
-                {
-                    return getNodeMatrix(key.getLeft(), key.getMiddle(), key.getRight());
-                }
-            });
-
         public TransformationMatrix getNodeMatrix(Node<?> node)
         {
             return getNodeMatrix(node, frame);
@@ -286,61 +276,65 @@ public enum B3DLoader implements ISelectiveResourceReloadListener
 
         public TransformationMatrix getNodeMatrix(Node<?> node, int frame)
         {
-            return cache.getUnchecked(Triple.of(animation, node, frame));
+            return getNodeMatrix(animation, node, frame);
         }
 
         public static TransformationMatrix getNodeMatrix(@Nullable Animation animation, Node<?> node, int frame)
+        {
+            JointPalette palette = node.getPalette(animation);
+            if (palette == null)
+            {
+                palette = bakePalette(animation, node);
+                node.addPalette(palette);
+            }
+            if (palette.covers(animation, frame))
+            {
+                return palette.get(frame);
+            }
+            // Frame outside the baked range
+            return computeNodeMatrix(animation, node, frame);
+        }
+
+        /**
+         * Bakes the model-space pose of the node for every frame of the animation.
+         */
+        public static JointPalette bakePalette(@Nullable Animation animation, Node<?> node)
+        {
+            Animation source = animation != null ? animation : node.getAnimation();
+            TransformationMatrix[] frames = new TransformationMatrix[source != null ? source.getFrames() + 1 : 1];
+            for (int i = 0; i < frames.length; i++)
+            {
+                frames[i] = computeNodeMatrix(animation, node, i);
+            }
+            return new JointPalette(animation, frames);
+        }
+
+        private static TransformationMatrix computeNodeMatrix(@Nullable Animation animation, Node<?> node, int frame)
         {
             TransformationMatrix ret = TransformationMatrix.func_227983_a_();
             Key key = null;
             if(animation != null) key = animation.getKeys().get(frame, node);
             else if(node.getAnimation() != null) key = node.getAnimation().getKeys().get(frame, node);
+            Node<?> parent = node.getParent();
+            if(parent != null)
+            {
+                // parent model-global current pose
+                TransformationMatrix pm = getNodeMatrix(animation, parent, frame);
+                ret = ret.compose(pm);
+                // joint offset in the parent coords
+                ret = ret.compose(new TransformationMatrix(parent.getPos(), parent.getRot(), parent.getScale(), null));
+            }
             if(key != null)
             {
-                Node<?> parent = node.getParent();
-                if(parent != null)
-                {
-                    // parent model-global current pose
-                    TransformationMatrix pm = cache.getUnchecked(Triple.of(animation, node.getParent(), frame));
-                    ret = ret.compose(pm);
-                    // joint offset in the parent coords
-                    ret = ret.compose(new TransformationMatrix(parent.getPos(), parent.getRot(), parent.getScale(), null));
-                }
                 // current node local pose
                 ret = ret.compose(new TransformationMatrix(key.getPos(), key.getRot(), key.getScale(), null));
-                // this part moved inside the model
-                // inverse bind of the current node
-                /*Matrix4f rm = new TRSRTransformation(node.getPos(), node.getRot(), node.getScale(), null).getMatrix();
-                rm.invert();
-                ret = ret.compose(new TRSRTransformation(rm));
-                if(parent != null)
-                {
-                    // inverse bind of the parent
-                    rm = new TRSRTransformation(parent.getPos(), parent.getRot(), parent.getScale(), null).getMatrix();
-                    rm.invert();
-                    ret = ret.compose(new TRSRTransformation(rm));
-                }*/
-                // TODO cache
-                TransformationMatrix invBind = new NodeJoint(node).getInvBindPose();
-                ret = ret.compose(invBind);
             }
             else
             {
-                Node<?> parent = node.getParent();
-                if(parent != null)
-                {
-                    // parent model-global current pose
-                    TransformationMatrix pm = cache.getUnchecked(Triple.of(animation, node.getParent(), frame));
-                    ret = ret.compose(pm);
-                    // joint offset in the parent coords
-                    ret = ret.compose(new TransformationMatrix(parent.getPos(), parent.getRot(), parent.getScale(), null));
-                }
                 ret = ret.compose(new TransformationMatrix(node.getPos(), node.getRot(), node.getScale(), null));
-                // TODO cache
-                TransformationMatrix invBind = new NodeJoint(node).getInvBindPose();
-                ret = ret.compose(invBind);
             }
-            return ret;
+            // inverse bind of the current node
+            return ret.compose(node.getInvBindPose());
         }
     }
 
@@ -356,16 +350,7 @@ public enum B3DLoader implements ISelectiveResourceReloadListener
         @Override
         public TransformationMatrix getInvBindPose()
         {
-            Matrix4f m = new TransformationMatrix(node.getPos(), node.getRot(), node.getScale(), null).func_227988_c_();
-            m.func_226600_c_();
-            TransformationMatrix pose = new TransformationMatrix(m);
-
-            if(node.getParent() != null)
-            {
-                TransformationMatrix parent = new NodeJoint(node.getParent()).getInvBindPose();
-                pose = pose.compose(parent);
-            }
-            return pose;
+            return node.getInvBindPose();
         }
 
         @Override
@@ -477,6 +462,15 @@ public enum B3DLoader implements ISelectiveResourceReloadListener
                 }
             }
             builder.put("missingno", missing);
+            // Bake the joint palettes now rather than on the first animated frame
+            Deque<Node<?>> nodes = new ArrayDeque<>();
+            nodes.add(model.getRoot());
+            while(!nodes.isEmpty())
+            {
+                Node<?> node = nodes.pop();
+                B3DState.getNodeMatrix(model.getRoot().getAnimation(), node, 0);
+                nodes.addAll(node.getNodes().values());
+            }
             return new BakedWrapper(model.getRoot(), modelTransform, smooth, gui3d, meshes, builder.build());
         }
 
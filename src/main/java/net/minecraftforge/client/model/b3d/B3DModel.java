@@ -32,6 +32,7 @@ import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -896,6 +897,10 @@ public class B3DModel
         private final K kind;
         @Nullable
         private Node<? extends IKind<?>> parent;
+        @Nullable
+        private TransformationMatrix invBindPose;
+        // Animation -> baked poses, copied on write; there are only ever a few animations per node
+        private volatile Map<Animation, JointPalette> palettes = Collections.emptyMap();
 
         public static <K extends IKind<K>> Node<K> create(String name, Vector3f pos, Vector3f scale, Quaternion rot, List<Node<?>> nodes, K kind)
         {
@@ -996,6 +1001,41 @@ public class B3DModel
         public void setParent(Node<? extends IKind<?>> parent)
         {
             this.parent = parent;
+            this.invBindPose = null;
+            this.palettes = Collections.emptyMap();
+        }
+
+        /**
+         * Inverse of the model-space rest pose of this node, computed once.
+         */
+        public TransformationMatrix getInvBindPose()
+        {
+            TransformationMatrix pose = invBindPose;
+            if (pose == null)
+            {
+                Matrix4f m = new TransformationMatrix(pos, rot, scale, null).func_227988_c_();
+                m.func_226600_c_();
+                pose = new TransformationMatrix(m);
+                if (parent != null)
+                {
+                    pose = pose.compose(parent.getInvBindPose());
+                }
+                invBindPose = pose;
+            }
+            return pose;
+        }
+
+        @Nullable
+        public JointPalette getPalette(@Nullable Animation animation)
+        {
+            return palettes.get(animation);
+        }
+
+        public synchronized void addPalette(JointPalette palette)
+        {
+            Map<Animation, JointPalette> copy = new IdentityHashMap<>(palettes);
+            copy.put(palette.getAnimation(), palette);
+            this.palettes = copy;
         }
 
         @Override
@@ -1005,6 +1045,38 @@ public class B3DModel
         }
     }
 
+    /**
+     * Model-space pose of a single joint for every frame of one animation, baked once.
+     */
+    public static final class JointPalette
+    {
+        @Nullable
+        private final Animation animation;
+        private final TransformationMatrix[] frames;
+
+        public JointPalette(@Nullable Animation animation, TransformationMatrix[] frames)
+        {
+            this.animation = animation;
+            this.frames = frames;
+        }
+
+        @Nullable
+        public Animation getAnimation()
+        {
+            return animation;
+        }
+
+        public boolean covers(@Nullable Animation animation, int frame)
+        {
+            return this.animation == animation && frame >= 0 && frame < frames.length;
+        }
+
+        public TransformationMatrix get(int frame)
+        {
+            return frames[frame];
+        }
+    }
+
     public static class Pivot implements IKind<Pivot>
     {
         private Node<Pivot> parent;
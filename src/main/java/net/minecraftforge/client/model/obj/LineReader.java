@@ -20,78 +20,371 @@
 package net.minecraftforge.client.model.obj;
 
 import com.google.common.base.Charsets;
-import joptsimple.internal.Strings;
 import net.minecraft.resources.IResource;
 
 import javax.annotation.Nullable;
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 
+/**
+ * Streaming tokenizer for OBJ and MTL files.
+ * <p>
+ * Lines are read into a reusable char buffer and split into whitespace separated tokens in place.
+ * Numbers can be parsed straight from the buffer with {@link #parseFloat(int)}, {@link #parseInt(int)}
+ * and {@link #parseIndices(int, int[])}, so the hot vertex and face directives allocate no strings.
+ */
 public class LineReader implements AutoCloseable
 {
+    // Every power of ten up to 1e10 is exact in a float
+    private static final float[] POWERS_OF_TEN = {
+        1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
     InputStreamReader lineStream;
-    BufferedReader lineReader;
+
+    private final char[] buffer = new char[8192];
+    private int bufferPos = 0;
+    private int bufferLimit = 0;
+    private boolean skipLineFeed = false;
+
+    // Current physical line
+    private char[] line = new char[256];
+    private int lineLength = 0;
+
+    // Tokens of the current logical line (physical lines joined by continuations)
+    private char[] text = new char[256];
+    private int textLength = 0;
+    private int[] tokenStart = new int[16];
+    private int[] tokenEnd = new int[16];
+    private int tokenCount = 0;
 
     public LineReader(IResource resource)
     {
-        this.lineStream = new InputStreamReader(resource.getInputStream(), Charsets.UTF_8);
-        this.lineReader = new BufferedReader(lineStream);
+        this(new InputStreamReader(resource.getInputStream(), Charsets.UTF_8));
+    }
+
+    LineReader(InputStreamReader lineStream)
+    {
+        this.lineStream = lineStream;
     }
 
     @Nullable
     public String[] readAndSplitLine(boolean ignoreEmptyLines) throws IOException
     {
-        //noinspection LoopConditionNotUpdatedInsideLoop
-        do
+        if (!nextLine(ignoreEmptyLines))
+            return null;
+        return getTokens();
+    }
+
+    /**
+     * @return the tokens of the current line as strings
+     */
+    public String[] getTokens()
+    {
+        String[] parts = new String[tokenCount];
+        for (int i = 0; i < tokenCount; i++)
         {
-            String currentLine = lineReader.readLine();
-            if (currentLine == null)
-                return null;
+            parts[i] = getToken(i);
+        }
+        return parts;
+    }
 
-            List<String> lineParts = new ArrayList<>();
+    /**
+     * Reads and tokenizes the next logical line. Comment lines are treated as empty,
+     * and lines ending in a backslash continue on the next line.
+     *
+     * @return false once the end of the file is reached
+     */
+    public boolean nextLine(boolean ignoreEmptyLines) throws IOException
+    {
+        do
+        {
+            if (!readPhysicalLine())
+                return false;
 
-            if (currentLine.startsWith("#"))
-                currentLine = "";
+            textLength = 0;
+            tokenCount = 0;
 
-            if (currentLine.length() > 0)
+            if (lineLength > 0 && line[0] != '#')
             {
-
                 boolean hasContinuation;
                 do
                 {
-                    hasContinuation = currentLine.endsWith("\\");
-                    String tmp = hasContinuation ? currentLine.substring(0, currentLine.length() - 1) : currentLine;
-
-                    Arrays.stream(tmp.split("[\t ]+")).filter(s -> !Strings.isNullOrEmpty(s)).forEach(lineParts::add);
+                    hasContinuation = line[lineLength - 1] == '\\';
+                    tokenize(hasContinuation ? lineLength - 1 : lineLength);
 
                     if (hasContinuation)
                     {
-                        currentLine = lineReader.readLine();
-                        if (currentLine == null)
+                        if (!readPhysicalLine())
                             break;
 
-                        if (currentLine.length() == 0 || currentLine.startsWith("#"))
+                        if (lineLength == 0 || line[0] == '#')
                             break;
                     }
                 } while (hasContinuation);
             }
 
-            if (lineParts.size() > 0)
-                return lineParts.toArray(new String[0]);
+            if (tokenCount > 0)
+                return true;
         }
         while (ignoreEmptyLines);
 
-        return new String[0];
+        return true;
+    }
+
+    public int getTokenCount()
+    {
+        return tokenCount;
+    }
+
+    public String getToken(int index)
+    {
+        return new String(text, tokenStart[index], tokenEnd[index] - tokenStart[index]);
+    }
+
+    public boolean tokenEquals(int index, String value)
+    {
+        int start = tokenStart[index];
+        int length = tokenEnd[index] - start;
+        if (length != value.length())
+            return false;
+        for (int i = 0; i < length; i++)
+        {
+            if (text[start + i] != value.charAt(i))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Joins the tokens from the given index onwards with single spaces, as used by names that may contain spaces.
+     */
+    public String joinTokens(int from)
+    {
+        if (from >= tokenCount)
+            return "";
+        StringBuilder builder = new StringBuilder(tokenEnd[tokenCount - 1] - tokenStart[from]);
+        for (int i = from; i < tokenCount; i++)
+        {
+            if (i > from)
+                builder.append(' ');
+            builder.append(text, tokenStart[i], tokenEnd[i] - tokenStart[i]);
+        }
+        return builder.toString();
+    }
+
+    public float parseFloat(int index)
+    {
+        return parseFloat(tokenStart[index], tokenEnd[index]);
+    }
+
+    public int parseInt(int index)
+    {
+        return parseInt(tokenStart[index], tokenEnd[index]);
+    }
+
+    /**
+     * Parses a slash separated index group such as {@code 1/2/3} or {@code 1//3}.
+     * Empty components are stored as 0, and trailing empty components are dropped like {@link String#split} does.
+     * Components beyond the length of {@code out} are ignored.
+     *
+     * @return the number of components written to {@code out}
+     */
+    public int parseIndices(int index, int[] out)
+    {
+        int start = tokenStart[index];
+        int end = tokenEnd[index];
+        int count = 0;
+        int partStart = start;
+        int lastNonEmpty = 0;
+        for (int i = start; i <= end; i++)
+        {
+            if (i == end || text[i] == '/')
+            {
+                if (count == out.length)
+                    break;
+                if (i > partStart)
+                {
+                    out[count] = parseInt(partStart, i);
+                    lastNonEmpty = count + 1;
+                }
+                else
+                {
+                    out[count] = 0;
+                }
+                count++;
+                partStart = i + 1;
+            }
+        }
+        return Math.max(lastNonEmpty, 1);
+    }
+
+    private int parseInt(int start, int end)
+    {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (text[i] == '-' || text[i] == '+'))
+        {
+            negative = text[i] == '-';
+            i++;
+        }
+        if (i == end || end - i > 9)
+            return Integer.parseInt(new String(text, start, end - start));
+        int value = 0;
+        for (; i < end; i++)
+        {
+            int digit = text[i] - '0';
+            if (digit < 0 || digit > 9)
+                return Integer.parseInt(new String(text, start, end - start));
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    private float parseFloat(int start, int end)
+    {
+        // Fast path for plain decimals whose mantissa and power of ten are both exact floats, so the single
+        // float multiply or divide rounds correctly. Anything else (hex, NaN, long mantissas...) goes through the JDK
+        int i = start;
+        boolean negative = false;
+        if (i < end && (text[i] == '-' || text[i] == '+'))
+        {
+            negative = text[i] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean seenDigit = false;
+        boolean seenPoint = false;
+        for (; i < end; i++)
+        {
+            char c = text[i];
+            if (c >= '0' && c <= '9')
+            {
+                seenDigit = true;
+                if (mantissa != 0 || c != '0')
+                    digits++;
+                mantissa = mantissa * 10 + (c - '0');
+                if (seenPoint)
+                    scale--;
+            }
+            else if (c == '.' && !seenPoint)
+            {
+                seenPoint = true;
+            }
+            else
+            {
+                break;
+            }
+        }
+        if (i < end && (text[i] == 'e' || text[i] == 'E') && seenDigit)
+        {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (text[i] == '-' || text[i] == '+'))
+            {
+                negativeExponent = text[i] == '-';
+                i++;
+            }
+            int exponent = 0;
+            int exponentDigits = 0;
+            for (; i < end && text[i] >= '0' && text[i] <= '9' && exponentDigits < 4; i++, exponentDigits++)
+            {
+                exponent = exponent * 10 + (text[i] - '0');
+            }
+            if (exponentDigits == 0)
+                return Float.parseFloat(new String(text, start, end - start));
+            scale += negativeExponent ? -exponent : exponent;
+        }
+        if (!seenDigit || i != end || digits > 8 || mantissa > (1 << 24) || scale < -10 || scale > 10)
+            return Float.parseFloat(new String(text, start, end - start));
+
+        float value = mantissa;
+        if (scale < 0)
+            value /= POWERS_OF_TEN[-scale];
+        else
+            value *= POWERS_OF_TEN[scale];
+        return negative ? -value : value;
+    }
+
+    private void tokenize(int length)
+    {
+        int i = 0;
+        while (i < length)
+        {
+            while (i < length && (line[i] == ' ' || line[i] == '\t'))
+                i++;
+            if (i == length)
+                break;
+            int start = i;
+            while (i < length && line[i] != ' ' && line[i] != '\t')
+                i++;
+            addToken(start, i);
+        }
+    }
+
+    private void addToken(int start, int end)
+    {
+        int length = end - start;
+        if (textLength + length > text.length)
+            text = Arrays.copyOf(text, Math.max(text.length * 2, textLength + length));
+        if (tokenCount == tokenStart.length)
+        {
+            tokenStart = Arrays.copyOf(tokenStart, tokenCount * 2);
+            tokenEnd = Arrays.copyOf(tokenEnd, tokenCount * 2);
+        }
+        System.arraycopy(line, start, text, textLength, length);
+        tokenStart[tokenCount] = textLength;
+        textLength += length;
+        tokenEnd[tokenCount] = textLength;
+        tokenCount++;
+    }
+
+    /**
+     * Reads the next line into {@link #line}, accepting the same terminators as {@link java.io.BufferedReader#readLine()}.
+     */
+    private boolean readPhysicalLine() throws IOException
+    {
+        lineLength = 0;
+        boolean readAny = false;
+        while (true)
+        {
+            if (bufferPos >= bufferLimit)
+            {
+                bufferLimit = lineStream.read(buffer, 0, buffer.length);
+                bufferPos = 0;
+                if (bufferLimit <= 0)
+                {
+                    bufferLimit = 0;
+                    return readAny;
+                }
+            }
+            char c = buffer[bufferPos++];
+            if (skipLineFeed)
+            {
+                skipLineFeed = false;
+                if (c == '\n')
+                    continue;
+            }
+            readAny = true;
+            if (c == '\n')
+                return true;
+            if (c == '\r')
+            {
+                skipLineFeed = true;
+                return true;
+            }
+            if (lineLength == line.length)
+                line = Arrays.copyOf(line, lineLength * 2);
+            line[lineLength++] = c;
+        }
     }
 
     @Override
     public void close() throws Exception
     {
-        lineReader.close();
         lineStream.close();
     }
 }
@@ -50,6 +50,12 @@ public class OBJLoader implements IModelLoader<OBJModel>
         manager = resourceManager;
     }
 
+    @Override
+    public boolean isBakeThreadSafe()
+    {
+        return true;
+    }
+
     @Override
     public OBJModel read(JsonDeserializationContext deserializationContext, JsonObject modelContents)
     {
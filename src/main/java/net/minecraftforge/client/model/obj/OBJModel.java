@@ -113,9 +113,80 @@ public class OBJModel implements IMultipartModelGeometry<OBJModel>
                 mtllib = OBJLoader.INSTANCE.loadMaterialLibrary(new ResourceLocation(modelDomain, modelPath + lib));
         }
 
-        String[] line;
-        while((line = reader.readAndSplitLine(true)) != null)
+        int[] indexBuffer = new int[4];
+        while(reader.nextLine(true))
         {
+            // Geometry directives make up the bulk of a model, so they are parsed straight from the reader's buffer
+            if (reader.tokenEquals(0, "v")) // Vertex
+            {
+                positions.add(parseVector4To3(reader));
+                continue;
+            }
+            if (reader.tokenEquals(0, "vt")) // Vertex texcoord
+            {
+                texCoords.add(parseVector2(reader));
+                continue;
+            }
+            if (reader.tokenEquals(0, "vn")) // Vertex normal
+            {
+                normals.add(parseVector3(reader));
+                continue;
+            }
+            if (reader.tokenEquals(0, "vc")) // Vertex color (non-standard)
+            {
+                colors.add(parseVector4(reader));
+                continue;
+            }
+
+            if (reader.tokenEquals(0, "f")) // Face
+            {
+                if (currentMesh == null)
+                {
+                    currentMesh = new ModelMesh(currentMat, currentSmoothingGroup);
+                    if (currentObject != null)
+                    {
+                        currentObject.meshes.add(currentMesh);
+                    }
+                    else
+                    {
+                        if (currentGroup == null)
+                        {
+                            currentGroup = new ModelGroup("");
+                            parts.put("", currentGroup);
+                        }
+                        currentGroup.meshes.add(currentMesh);
+                    }
+                }
+
+                int[][] vertices = new int[reader.getTokenCount()-1][];
+                for(int i=0;i<vertices.length;i++)
+                {
+                    int[] vertex = Arrays.copyOf(indexBuffer, reader.parseIndices(i+1, indexBuffer));
+                    if (vertex[0] < 0) vertex[0] = positions.size() + vertex[0];
+                    else vertex[0]--;
+                    if (vertex.length > 1)
+                    {
+                        if (vertex[1] < 0) vertex[1] = texCoords.size() + vertex[1];
+                        else vertex[1]--;
+                        if (vertex.length > 2)
+                        {
+                            if (vertex[2] < 0) vertex[2] = normals.size() + vertex[2];
+                            else vertex[2]--;
+                            if (vertex.length > 3)
+                            {
+                                if (vertex[3] < 0) vertex[3] = colors.size() + vertex[3];
+                                else vertex[3]--;
+                            }
+                        }
+                    }
+                    vertices[i] = vertex;
+                }
+
+                currentMesh.faces.add(vertices);
+                continue;
+            }
+
+            String[] line = reader.getTokens();
             switch(line[0])
             {
                 case "mtllib": // Loads material library
@@ -151,70 +222,6 @@ public class OBJModel implements IMultipartModelGeometry<OBJModel>
                     break;
                 }
 
-                case "v": // Vertex
-                    positions.add(parseVector4To3(line));
-                    break;
-                case "vt": // Vertex texcoord
-                    texCoords.add(parseVector2(line));
-                    break;
-                case "vn": // Vertex normal
-                    normals.add(parseVector3(line));
-                    break;
-                case "vc": // Vertex color (non-standard)
-                    colors.add(parseVector4(line));
-                    break;
-
-                case "f": // Face
-                {
-                    if (currentMesh == null)
-                    {
-                        currentMesh = new ModelMesh(currentMat, currentSmoothingGroup);
-                        if (currentObject != null)
-                        {
-                            currentObject.meshes.add(currentMesh);
-                        }
-                        else
-                        {
-                            if (currentGroup == null)
-                            {
-                                currentGroup = new ModelGroup("");
-                                parts.put("", currentGroup);
-                            }
-                            currentGroup.meshes.add(currentMesh);
-                        }
-                    }
-
-                    int[][] vertices = new int[line.length-1][];
-                    for(int i=0;i<vertices.length;i++)
-                    {
-                        String vertexData = line[i+1];
-                        String[] vertexParts = vertexData.split("/");
-                        int[] vertex = Arrays.stream(vertexParts).mapToInt(num -> Strings.isNullOrEmpty(num) ? 0 : Integer.parseInt(num)).toArray();
-                        if (vertex[0] < 0) vertex[0] = positions.size() + vertex[0];
-                        else vertex[0]--;
-                        if (vertex.length > 1)
-                        {
-                            if (vertex[1] < 0) vertex[1] = texCoords.size() + vertex[1];
-                            else vertex[1]--;
-                            if (vertex.length > 2)
-                            {
-                                if (vertex[2] < 0) vertex[2] = normals.size() + vertex[2];
-                                else vertex[2]--;
-                                if (vertex.length > 3)
-                                {
-                                    if (vertex[3] < 0) vertex[3] = colors.size() + vertex[3];
-                                    else vertex[3]--;
-                                }
-                            }
-                        }
-                        vertices[i] = vertex;
-                    }
-
-                    currentMesh.faces.add(vertices);
-
-                    break;
-                }
-
                 case "s": // Smoothing group (starts new mesh)
                 {
                     String smoothingGroup = "off".equals(line[1]) ? null : line[1];
@@ -277,6 +284,51 @@ public class OBJModel implements IMultipartModelGeometry<OBJModel>
         }
     }
 
+    public static Vector3f parseVector4To3(LineReader line)
+    {
+        switch (line.getTokenCount()) {
+            case 1: return new Vector3f(0,0,0);
+            case 2: return new Vector3f(line.parseFloat(1), 0, 0);
+            case 3: return new Vector3f(line.parseFloat(1), line.parseFloat(2), 0);
+            case 4: return new Vector3f(line.parseFloat(1), line.parseFloat(2), line.parseFloat(3));
+            default:
+            {
+                float w = line.parseFloat(4);
+                return new Vector3f(line.parseFloat(1) / w, line.parseFloat(2) / w, line.parseFloat(3) / w);
+            }
+        }
+    }
+
+    public static Vec2f parseVector2(LineReader line)
+    {
+        switch (line.getTokenCount()) {
+            case 1: return new Vec2f(0,0);
+            case 2: return new Vec2f(line.parseFloat(1), 0);
+            default: return new Vec2f(line.parseFloat(1), line.parseFloat(2));
+        }
+    }
+
+    public static Vector3f parseVector3(LineReader line)
+    {
+        switch (line.getTokenCount()) {
+            case 1: return new Vector3f(0,0,0);
+            case 2: return new Vector3f(line.parseFloat(1), 0, 0);
+            case 3: return new Vector3f(line.parseFloat(1), line.parseFloat(2), 0);
+            default: return new Vector3f(line.parseFloat(1), line.parseFloat(2), line.parseFloat(3));
+        }
+    }
+
+    public static Vector4f parseVector4(LineReader line)
+    {
+        switch (line.getTokenCount()) {
+            case 1: return new Vector4f(0,0,0,1);
+            case 2: return new Vector4f(line.parseFloat(1), 0, 0,1);
+            case 3: return new Vector4f(line.parseFloat(1), line.parseFloat(2), 0,1);
+            case 4: return new Vector4f(line.parseFloat(1), line.parseFloat(2), line.parseFloat(3),1);
+            default: return new Vector4f(line.parseFloat(1), line.parseFloat(2), line.parseFloat(3), line.parseFloat(4));
+        }
+    }
+
     public static Vector3f parseVector4To3(String[] line)
     {
         switch (line.length) {
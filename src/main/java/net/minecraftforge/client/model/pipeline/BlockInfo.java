@@ -22,6 +22,7 @@ package net.minecraftforge.client.model.pipeline;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
+import net.minecraft.client.renderer.chunk.ChunkRenderCache;
 import net.minecraft.client.renderer.color.BlockColors;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
@@ -29,10 +30,19 @@ import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.math.shapes.VoxelShapes;
 import net.minecraft.world.ILightReader;
 
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
 public class BlockInfo
 {
     private static final Direction[] SIDES = Direction.values();
 
+    // Light matrix samples are cached for a chunk section plus a one block border
+    private static final int CACHE_SIZE = 18;
+    private static final byte CELL_EMPTY = 0;
+    private static final byte CELL_OPAQUE = 1;
+    private static final byte CELL_TRANSLUCENT = 2;
+
     private final BlockColors colors;
     private ILightReader world;
     private BlockState state;
@@ -47,6 +57,13 @@ public class BlockInfo
 
     private final int[] packed = new int[7];
 
+    private final BlockPos.Mutable samplePos = new BlockPos.Mutable();
+    private final byte[] cellState = new byte[CACHE_SIZE * CACHE_SIZE * CACHE_SIZE];
+    private final int[] cellBrightness = new int[CACHE_SIZE * CACHE_SIZE * CACHE_SIZE];
+    private final float[] cellAo = new float[CACHE_SIZE * CACHE_SIZE * CACHE_SIZE];
+    private WeakReference<ILightReader> cacheWorld = new WeakReference<>(null);
+    private int cacheX, cacheY, cacheZ;
+
     private boolean full;
 
     private float shx = 0, shy = 0, shz = 0;
@@ -118,19 +135,39 @@ public class BlockInfo
 
     public void updateLightMatrix()
     {
-        for(int x = 0; x <= 2; x++)
+        if (useSectionCache())
+        {
+            for(int x = 0; x <= 2; x++)
+            {
+                for(int y = 0; y <= 2; y++)
+                {
+                    for(int z = 0; z <= 2; z++)
+                    {
+                        int cell = sampleCell(blockPos.getX() + x - 1, blockPos.getY() + y - 1, blockPos.getZ() + z - 1);
+                        if (cell < 0)
+                        {
+                            sampleDirect(x, y, z);
+                            continue;
+                        }
+                        int brightness = cellBrightness[cell];
+                        t[x][y][z] = cellState[cell] == CELL_TRANSLUCENT;
+                        s[x][y][z] = (brightness >> 0x14) & 0xF;
+                        b[x][y][z] = (brightness >> 0x04) & 0xF;
+                        ao[x][y][z] = cellAo[cell];
+                    }
+                }
+            }
+        }
+        else
         {
-            for(int y = 0; y <= 2; y++)
+            for(int x = 0; x <= 2; x++)
             {
-                for(int z = 0; z <= 2; z++)
+                for(int y = 0; y <= 2; y++)
                 {
-                    BlockPos pos = blockPos.add(x - 1, y - 1, z - 1);
-                    BlockState state = world.getBlockState(pos);
-                    t[x][y][z] = state.getOpacity(world, pos) < 15;
-                    int brightness = 0x00FF00FF; // FIXME: state.getPackedLightmapCoords(world, pos);
-                    s[x][y][z] = (brightness >> 0x14) & 0xF;
-                    b[x][y][z] = (brightness >> 0x04) & 0xF;
-                    ao[x][y][z] = state.func_215703_d(world, pos);
+                    for(int z = 0; z <= 2; z++)
+                    {
+                        sampleDirect(x, y, z);
+                    }
                 }
             }
         }
@@ -192,6 +229,59 @@ public class BlockInfo
         }
     }
 
+    private void sampleDirect(int x, int y, int z)
+    {
+        BlockPos pos = samplePos.setPos(blockPos.getX() + x - 1, blockPos.getY() + y - 1, blockPos.getZ() + z - 1);
+        BlockState state = world.getBlockState(pos);
+        t[x][y][z] = state.getOpacity(world, pos) < 15;
+        int brightness = 0x00FF00FF; // FIXME: state.getPackedLightmapCoords(world, pos);
+        s[x][y][z] = (brightness >> 0x14) & 0xF;
+        b[x][y][z] = (brightness >> 0x04) & 0xF;
+        ao[x][y][z] = state.func_215703_d(world, pos);
+    }
+
+    /**
+     * Chunk render caches are immutable snapshots of one section, so samples taken for one block
+     * stay valid for every other block rebuilt from the same cache.
+     * The cache window is reset whenever a different snapshot is seen.
+     */
+    private boolean useSectionCache()
+    {
+        if (!(world instanceof ChunkRenderCache))
+            return false;
+        if (cacheWorld.get() != world)
+        {
+            cacheWorld = new WeakReference<>(world);
+            cacheX = (blockPos.getX() & ~0xF) - 1;
+            cacheY = (blockPos.getY() & ~0xF) - 1;
+            cacheZ = (blockPos.getZ() & ~0xF) - 1;
+            Arrays.fill(cellState, CELL_EMPTY);
+        }
+        return true;
+    }
+
+    /**
+     * @return the index of the sampled cell, or -1 if the position lies outside the cached section
+     */
+    private int sampleCell(int x, int y, int z)
+    {
+        int cx = x - cacheX;
+        int cy = y - cacheY;
+        int cz = z - cacheZ;
+        if (cx < 0 || cy < 0 || cz < 0 || cx >= CACHE_SIZE || cy >= CACHE_SIZE || cz >= CACHE_SIZE)
+            return -1;
+        int cell = (cx * CACHE_SIZE + cy) * CACHE_SIZE + cz;
+        if (cellState[cell] == CELL_EMPTY)
+        {
+            BlockPos pos = samplePos.setPos(x, y, z);
+            BlockState state = world.getBlockState(pos);
+            cellState[cell] = state.getOpacity(world, pos) < 15 ? CELL_TRANSLUCENT : CELL_OPAQUE;
+            cellBrightness[cell] = 0x00FF00FF; // FIXME: state.getPackedLightmapCoords(world, pos);
+            cellAo[cell] = state.func_215703_d(world, pos);
+        }
+        return cell;
+    }
+
     public void updateFlatLighting()
     {
         full = Block.isOpaque(state.getCollisionShape(world, blockPos));
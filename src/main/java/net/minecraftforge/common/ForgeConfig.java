@@ -135,6 +135,10 @@ public class ForgeConfig
 
         public final BooleanValue allowEmissiveItems;
 
+        public final BooleanValue parallelModelBaking;
+
+        public final BooleanValue bakedModelCache;
+
         Client(ForgeConfigSpec.Builder builder) {
             builder.comment("Client only settings, mostly things related to rendering")
                    .push("client");
@@ -181,6 +185,16 @@ public class ForgeConfig
                 .translation("forge.configgui.allowEmissiveItems")
                 .define("allowEmissiveItems", true);
 
+            parallelModelBaking = builder
+                .comment("Bake block and item models on several threads during resource reload. Models from loaders that are not thread safe are still baked serially.")
+                .translation("forge.configgui.parallelModelBaking")
+                .define("parallelModelBaking", true);
+
+            bakedModelCache = builder
+                .comment("Store baked block and item models on disk and reuse them on the next launch if the resource packs and mods are unchanged.")
+                .translation("forge.configgui.bakedModelCache")
+                .define("bakedModelCache", false);
+
             builder.pop();
         }
     }
@@ -25,6 +25,9 @@ import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.common.brewing.BrewingRecipeRegistry;
+import net.minecraftforge.common.crafting.RecipeItemIndex;
+import net.minecraftforge.common.util.BakedTagTable;
 import net.minecraftforge.common.util.FakePlayerFactory;
 import net.minecraftforge.event.entity.EntityJoinWorldEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
@@ -37,6 +40,7 @@ import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.TickEvent.ClientTickEvent;
 import net.minecraftforge.event.TickEvent.Phase;
 import net.minecraftforge.event.TickEvent.ServerTickEvent;
+import net.minecraftforge.fml.event.lifecycle.FMLModIdMappingEvent;
 
 public class ForgeInternalHandler
 {
@@ -102,10 +106,18 @@ public class ForgeInternalHandler
         UsernameCache.setUsername(event.getPlayer().getUniqueID(), event.getPlayer().getGameProfile().getName());
     }
 
+    @SubscribeEvent
+    public void mappingChanged(FMLModIdMappingEvent event)
+    {
+        BakedTagTable.invalidateAll();
+    }
+
     @SubscribeEvent
     public synchronized void tagsUpdated(TagsUpdatedEvent event)
     {
         ForgeHooks.updateBurns();
+        RecipeItemIndex.invalidateAll();
+        BrewingRecipeRegistry.invalidateIndex();
     }
 }
 
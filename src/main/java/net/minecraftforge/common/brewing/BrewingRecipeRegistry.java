@@ -20,15 +20,27 @@
 package net.minecraftforge.common.brewing;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.Ingredient;
 import net.minecraft.util.NonNullList;
+import net.minecraftforge.common.crafting.CraftingHelper;
 
 public class BrewingRecipeRegistry {
 
     private static List<IBrewingRecipe> recipes = new ArrayList<IBrewingRecipe>();
+    private static volatile BakedIndex index = null;
+    private static volatile int generation = 0;
 
     static
     {
@@ -60,7 +72,36 @@ public class BrewingRecipeRegistry {
      */
     public static boolean addRecipe(IBrewingRecipe recipe)
     {
-        return recipes.add(recipe);
+        boolean ret = recipes.add(recipe);
+        invalidateIndex();
+        return ret;
+    }
+
+    /**
+     * Discards the baked lookup index, it is rebuilt on the next query.
+     * Called whenever recipes are added and when tags are reloaded, as ingredients may be tag based.
+     */
+    public static synchronized void invalidateIndex()
+    {
+        generation++;
+        index = null;
+    }
+
+    private static BakedIndex getIndex()
+    {
+        BakedIndex ret = index;
+        if (ret == null)
+        {
+            int gen = generation;
+            ret = new BakedIndex(recipes);
+            // Only publish if nothing was invalidated while building, otherwise the next query builds it again
+            synchronized (BrewingRecipeRegistry.class)
+            {
+                if (generation == gen)
+                    index = ret;
+            }
+        }
+        return ret;
     }
 
     /**
@@ -72,9 +113,25 @@ public class BrewingRecipeRegistry {
         if (input.isEmpty() || input.getCount() != 1) return ItemStack.EMPTY;
         if (ingredient.isEmpty()) return ItemStack.EMPTY;
 
-        for (IBrewingRecipe recipe : recipes)
+        BakedIndex index = getIndex();
+        List<Entry> bucket = index.byInput.getOrDefault(input.getItem(), Collections.emptyList());
+        List<Entry> fallback = index.fallback;
+        Item ingredientItem = ingredient.getItem();
+        int b = 0;
+        int f = 0;
+        // Walk both lists in registration order, so the first registered recipe still wins
+        while (b < bucket.size() || f < fallback.size())
         {
-            ItemStack output = recipe.getOutput(input, ingredient);
+            Entry entry;
+            if (f >= fallback.size() || (b < bucket.size() && bucket.get(b).ordinal < fallback.get(f).ordinal))
+                entry = bucket.get(b++);
+            else
+                entry = fallback.get(f++);
+
+            if (entry.ingredients != null && !entry.ingredients.contains(ingredientItem))
+                continue;
+
+            ItemStack output = entry.recipe.getOutput(input, ingredient);
             if (!output.isEmpty())
             {
                 return output;
@@ -135,9 +192,17 @@ public class BrewingRecipeRegistry {
     {
         if (stack.isEmpty()) return false;
 
-        for (IBrewingRecipe recipe : recipes)
+        BakedIndex index = getIndex();
+        for (Entry entry : index.byIngredient.getOrDefault(stack.getItem(), Collections.emptyList()))
         {
-            if (recipe.isIngredient(stack))
+            if (entry.recipe.isIngredient(stack))
+            {
+                return true;
+            }
+        }
+        for (Entry entry : index.fallback)
+        {
+            if (entry.recipe.isIngredient(stack))
             {
                 return true;
             }
@@ -153,9 +218,17 @@ public class BrewingRecipeRegistry {
     {
         if (stack.getCount() != 1) return false;
 
-        for (IBrewingRecipe recipe : recipes)
+        BakedIndex index = getIndex();
+        for (Entry entry : index.byInput.getOrDefault(stack.getItem(), Collections.emptyList()))
+        {
+            if (entry.recipe.isInput(stack))
+            {
+                return true;
+            }
+        }
+        for (Entry entry : index.fallback)
         {
-            if (recipe.isInput(stack))
+            if (entry.recipe.isInput(stack))
             {
                 return true;
             }
@@ -170,4 +243,58 @@ public class BrewingRecipeRegistry {
     {
         return Collections.unmodifiableList(recipes);
     }
+
+    private static class Entry
+    {
+        private final int ordinal;
+        private final IBrewingRecipe recipe;
+        @Nullable private final Set<Item> ingredients;
+
+        private Entry(int ordinal, IBrewingRecipe recipe, @Nullable Set<Item> ingredients)
+        {
+            this.ordinal = ordinal;
+            this.recipe = recipe;
+            this.ingredients = ingredients;
+        }
+    }
+
+    /**
+     * Item keyed view of the registered recipes, by input and by ingredient.
+     * Only plain {@link BrewingRecipe}s whose ingredients can report their items are indexed,
+     * every other recipe lands in the fallback list and is always tested.
+     * All lists are kept in registration order.
+     */
+    private static class BakedIndex
+    {
+        private final Map<Item, List<Entry>> byInput = new Reference2ObjectOpenHashMap<>();
+        private final Map<Item, List<Entry>> byIngredient = new Reference2ObjectOpenHashMap<>();
+        private final List<Entry> fallback = new ArrayList<>();
+
+        private BakedIndex(List<IBrewingRecipe> recipes)
+        {
+            for (int x = 0; x < recipes.size(); x++)
+            {
+                IBrewingRecipe recipe = recipes.get(x);
+                Collection<Item> inputs = null;
+                Collection<Item> ingredients = null;
+                if (recipe.getClass() == BrewingRecipe.class) //Subclasses may override the predicates
+                {
+                    inputs = CraftingHelper.getAcceptedItems(((BrewingRecipe)recipe).getInput());
+                    ingredients = CraftingHelper.getAcceptedItems(((BrewingRecipe)recipe).getIngredient());
+                }
+
+                if (inputs == null || ingredients == null)
+                {
+                    fallback.add(new Entry(x, recipe, null));
+                    continue;
+                }
+
+                Entry entry = new Entry(x, recipe, new ReferenceOpenHashSet<>(ingredients));
+                for (Item item : inputs)
+                    byInput.computeIfAbsent(item, k -> new ArrayList<>()).add(entry);
+                for (Item item : ingredients)
+                    byIngredient.computeIfAbsent(item, k -> new ArrayList<>()).add(entry);
+            }
+        }
+    }
 }
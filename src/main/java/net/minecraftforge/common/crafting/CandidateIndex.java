@@ -0,0 +1,95 @@
+/*
+ * Minecraft Forge
+ * Copyright (c) 2016-2019.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation version 2.1
+ * of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package net.minecraftforge.common.crafting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+
+/**
+ * Inverted index from keys to the values which could accept them, keeping the order values were added in.
+ * Values added without keys are wildcards and are always returned.
+ */
+class CandidateIndex<K, V>
+{
+    private final List<V> all = new ArrayList<>();
+    private final IntList wildcards = new IntArrayList();
+    private final Map<K, IntList> byKey = new HashMap<>();
+
+    /**
+     * @param keys The keys the value accepts, or null if it could accept anything.
+     */
+    void add(V value, @Nullable Collection<K> keys)
+    {
+        int ordinal = all.size();
+        all.add(value);
+        if (keys == null || keys.isEmpty())
+        {
+            wildcards.add(ordinal);
+            return;
+        }
+        for (K key : keys)
+        {
+            IntList bucket = byKey.computeIfAbsent(key, k -> new IntArrayList());
+            // A value may list the same key more than once
+            if (bucket.isEmpty() || bucket.getInt(bucket.size() - 1) != ordinal)
+                bucket.add(ordinal);
+        }
+    }
+
+    /**
+     * Returns every value that accepts at least one of the keys, plus the wildcards, in the order they were added.
+     * An empty set of keys returns every value.
+     */
+    List<V> getCandidates(Collection<K> keys)
+    {
+        if (keys.isEmpty())
+            return Collections.unmodifiableList(all);
+
+        IntArrayList ordinals = new IntArrayList(wildcards);
+        for (K key : keys)
+        {
+            IntList bucket = byKey.get(key);
+            if (bucket != null)
+                ordinals.addAll(bucket);
+        }
+        Arrays.sort(ordinals.elements(), 0, ordinals.size());
+
+        List<V> ret = new ArrayList<>(ordinals.size());
+        int last = -1;
+        for (int i = 0; i < ordinals.size(); i++)
+        {
+            int ordinal = ordinals.getInt(i);
+            if (ordinal != last)
+                ret.add(all.get(ordinal));
+            last = ordinal;
+        }
+        return ret;
+    }
+}
@@ -22,6 +22,7 @@ package net.minecraftforge.common.crafting;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -37,6 +38,8 @@ import com.google.gson.JsonSyntaxException;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntComparators;
 import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.Ingredient;
 import net.minecraft.network.PacketBuffer;
@@ -159,5 +162,20 @@ public class CompoundIngredient extends Ingredient
             ingredient.children.forEach(c -> c.write(buffer));
         }
 
+        @Override
+        @Nullable
+        public Collection<Item> getAcceptedItems(CompoundIngredient ingredient)
+        {
+            Set<Item> items = new ReferenceOpenHashSet<>();
+            for (Ingredient child : ingredient.children)
+            {
+                Collection<Item> accepted = CraftingHelper.getAcceptedItems(child);
+                if (accepted == null)
+                    return null;
+                items.addAll(accepted);
+            }
+            return items;
+        }
+
     }
 }
@@ -19,6 +19,7 @@
 
 package net.minecraftforge.common.crafting;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -100,6 +101,28 @@ public class CraftingHelper
         serializer.write(buffer, ingredient);
     }
 
+    /**
+     * Asks the ingredient's serializer which items it could accept.
+     * @return The accepted items, or null if the ingredient can not tell ahead of time.
+     */
+    @Nullable
+    public static <T extends Ingredient> Collection<Item> getAcceptedItems(T ingredient)
+    {
+        IIngredientSerializer<T> serializer;
+        try
+        {
+            @SuppressWarnings("unchecked")
+            IIngredientSerializer<T> ser = (IIngredientSerializer<T>)ingredient.getSerializer();
+            serializer = ser;
+        }
+        catch (IllegalStateException e)
+        {
+            // Custom ingredients that never implemented getSerializer, treat them as accepting anything
+            return null;
+        }
+        return serializer.getAcceptedItems(ingredient);
+    }
+
     public static Ingredient getIngredient(ResourceLocation type, PacketBuffer buffer)
     {
         IIngredientSerializer<?> serializer = ingredients.get(type);
@@ -19,8 +19,13 @@
 
 package net.minecraftforge.common.crafting;
 
+import java.util.Collection;
+
+import javax.annotation.Nullable;
+
 import com.google.gson.JsonObject;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.crafting.Ingredient;
 import net.minecraft.network.PacketBuffer;
 
@@ -31,4 +36,17 @@ public interface IIngredientSerializer<T extends Ingredient>
     T parse(JsonObject json);
 
     void write(PacketBuffer buffer, T ingredient);
+
+    /**
+     * Reports every item the given ingredient could possibly accept, used by {@link RecipeItemIndex}
+     * to narrow down the recipes that need to be tested against an inventory.
+     *
+     * @return The accepted items, or null if they can not be determined ahead of time,
+     *         in which case any recipe using this ingredient is tested against every inventory.
+     */
+    @Nullable
+    default Collection<Item> getAcceptedItems(T ingredient)
+    {
+        return null;
+    }
 }
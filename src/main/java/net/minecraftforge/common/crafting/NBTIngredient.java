@@ -19,6 +19,8 @@
 
 package net.minecraftforge.common.crafting;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
@@ -26,6 +28,7 @@ import javax.annotation.Nullable;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.Ingredient;
 import net.minecraft.network.PacketBuffer;
@@ -90,5 +93,10 @@ public class NBTIngredient extends Ingredient
         public void write(PacketBuffer buffer, NBTIngredient ingredient) {
             buffer.writeItemStack(ingredient.stack);
         }
+
+        @Override
+        public Collection<Item> getAcceptedItems(NBTIngredient ingredient) {
+            return Collections.singleton(ingredient.stack.getItem());
+        }
     }
 }
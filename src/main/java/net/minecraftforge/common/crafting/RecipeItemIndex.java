@@ -0,0 +1,150 @@
+/*
+ * Minecraft Forge
+ * Copyright (c) 2016-2019.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation version 2.1
+ * of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package net.minecraftforge.common.crafting;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.IRecipeType;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.world.World;
+
+/**
+ * Inverted index from {@link Item} to the recipes that could consume it, built lazily per {@link RecipeManager}
+ * and thrown away whenever recipes or tags are reloaded. {@link RecipeManager#getRecipe(IRecipeType, IInventory, World)}
+ * goes through this index.
+ *
+ * A recipe is a candidate for an inventory if it accepts any of the items in it, as inventories such as
+ * furnaces also pass their fuel and output slots.
+ * Recipes that are dynamic, have no ingredients, or use an ingredient whose serializer can not report
+ * its accepted items are kept as wildcards and are always tested.
+ * Candidates are returned in the same order {@link RecipeManager} would test them.
+ */
+public class RecipeItemIndex
+{
+    private static final Map<RecipeManager, RecipeItemIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<IRecipeType<?>, CandidateIndex<Item, IRecipe<?>>> types = new HashMap<>();
+
+    public static RecipeItemIndex get(RecipeManager manager)
+    {
+        return INDEXES.computeIfAbsent(manager, RecipeItemIndex::new);
+    }
+
+    public static void invalidate(RecipeManager manager)
+    {
+        INDEXES.remove(manager);
+    }
+
+    public static void invalidateAll()
+    {
+        INDEXES.clear();
+    }
+
+    private RecipeItemIndex(RecipeManager manager)
+    {
+        // getKeys preserves the per type ordering, unlike getRecipes
+        manager.getKeys().forEach(key -> manager.getRecipe(key).ifPresent(recipe ->
+            types.computeIfAbsent(recipe.getType(), k -> new CandidateIndex<>()).add(recipe, getAcceptedItems(recipe))
+        ));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <C extends IInventory, T extends IRecipe<C>> Optional<T> getRecipe(IRecipeType<T> type, C inv, World world)
+    {
+        for (IRecipe<?> recipe : getCandidates(type, inv))
+        {
+            Optional<T> ret = type.matches((IRecipe<C>)recipe, world, inv);
+            if (ret.isPresent())
+                return ret;
+        }
+        return Optional.empty();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <C extends IInventory, T extends IRecipe<C>> List<T> getRecipes(IRecipeType<T> type, C inv, World world)
+    {
+        List<T> ret = new ArrayList<>();
+        for (IRecipe<?> recipe : getCandidates(type, inv))
+            type.matches((IRecipe<C>)recipe, world, inv).ifPresent(ret::add);
+        return ret;
+    }
+
+    /**
+     * Returns every recipe of the given type that could match the inventory, based on the items it contains.
+     * The returned recipes still need to be tested with {@link IRecipe#matches}.
+     */
+    public List<IRecipe<?>> getCandidates(IRecipeType<?> type, IInventory inv)
+    {
+        CandidateIndex<Item, IRecipe<?>> index = types.get(type);
+        if (index == null)
+            return Collections.emptyList();
+
+        Set<Item> items = new ReferenceOpenHashSet<>();
+        for (int x = 0; x < inv.getSizeInventory(); x++)
+        {
+            ItemStack stack = inv.getStackInSlot(x);
+            if (!stack.isEmpty())
+                items.add(stack.getItem());
+        }
+        return index.getCandidates(items);
+    }
+
+    /**
+     * Returns every recipe of the given type that could consume the item, including wildcard recipes.
+     */
+    public List<IRecipe<?>> getCandidates(IRecipeType<?> type, Item item)
+    {
+        CandidateIndex<Item, IRecipe<?>> index = types.get(type);
+        return index == null ? Collections.emptyList() : index.getCandidates(Collections.singleton(item));
+    }
+
+    @Nullable
+    private static Set<Item> getAcceptedItems(IRecipe<?> recipe)
+    {
+        if (recipe.isDynamic() || recipe.getIngredients().isEmpty())
+            return null;
+
+        Set<Item> items = new ReferenceOpenHashSet<>();
+        for (Ingredient ingredient : recipe.getIngredients())
+        {
+            Collection<Item> accepted = CraftingHelper.getAcceptedItems(ingredient);
+            if (accepted == null)
+                return null;
+            items.addAll(accepted);
+        }
+        return items;
+    }
+}
@@ -19,10 +19,14 @@
 
 package net.minecraftforge.common.crafting;
 
+import java.util.Collection;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import com.google.gson.JsonObject;
 
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.Ingredient;
 import net.minecraft.network.PacketBuffer;
@@ -49,4 +53,14 @@ public class VanillaIngredientSerializer implements IIngredientSerializer<Ingred
         for (ItemStack stack : items)
             buffer.writeItemStack(stack);
     }
+
+    @Override
+    public Collection<Item> getAcceptedItems(Ingredient ingredient)
+    {
+        //Vanilla ingredients only compare items, so the matching stacks cover everything they accept
+        Set<Item> items = new ReferenceOpenHashSet<>();
+        for (ItemStack stack : ingredient.getMatchingStacks())
+            items.add(stack.getItem());
+        return items;
+    }
 }
@@ -0,0 +1,148 @@
+/*
+ * Minecraft Forge
+ * Copyright (c) 2016-2019.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation version 2.1
+ * of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package net.minecraftforge.common.util;
+
+import java.lang.ref.WeakReference;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import com.google.common.collect.ImmutableSet;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.tags.Tag;
+import net.minecraft.tags.TagCollection;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.registries.ForgeRegistry;
+import net.minecraftforge.registries.IForgeRegistryEntry;
+
+/**
+ * Baked, read only view of the reverse lookups of a {@link TagCollection}.
+ * Every registry entry gets a shared, immutable set of the tags that contain it,
+ * built from a {@link BitSet} of dense tag IDs per registry ID.
+ *
+ * Tables are cached per collection and rebuilt when the tag generation changes or registry IDs are remapped.
+ * Callers should hold on to the table they got and only come back to {@link #get} once {@link #isCurrent} fails,
+ * so reverse lookups never lock or allocate.
+ */
+public class BakedTagTable<T extends IForgeRegistryEntry<T>>
+{
+    private static final Map<TagCollection<?>, BakedTagTable<?>> TABLES = new WeakHashMap<>();
+    private static volatile int remapGeneration = 0;
+
+    // Weak, as tables are the values of a weak map keyed by their collection
+    private final WeakReference<TagCollection<T>> collection;
+    private final int generation;
+    private final int remap;
+    private final Reference2IntOpenHashMap<T> registryIds = new Reference2IntOpenHashMap<>();
+    private final Set<ResourceLocation>[] owningTags;
+
+    @SuppressWarnings("unchecked")
+    public static synchronized <T extends IForgeRegistryEntry<T>> BakedTagTable<T> get(TagCollection<T> collection, int generation, ForgeRegistry<T> registry)
+    {
+        BakedTagTable<T> table = (BakedTagTable<T>)TABLES.get(collection);
+        if (table == null || !table.isCurrent(collection, generation))
+        {
+            table = new BakedTagTable<>(collection, generation, registry);
+            TABLES.put(collection, table);
+        }
+        return table;
+    }
+
+    /**
+     * Drops every baked table, called when registry IDs are remapped.
+     */
+    public static synchronized void invalidateAll()
+    {
+        remapGeneration++;
+        TABLES.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private BakedTagTable(TagCollection<T> collection, int generation, ForgeRegistry<T> registry)
+    {
+        this.collection = new WeakReference<>(collection);
+        this.generation = generation;
+        this.remap = remapGeneration;
+        this.registryIds.defaultReturnValue(-1);
+
+        int maxId = -1;
+        for (T value : registry)
+        {
+            int id = registry.getID(value);
+            registryIds.put(value, id);
+            maxId = Math.max(maxId, id);
+        }
+
+        Map<ResourceLocation, Tag<T>> tags = collection.getTagMap();
+        BitSet[] reverse = new BitSet[maxId + 1];
+        ResourceLocation[] names = new ResourceLocation[tags.size()];
+        int tagId = 0;
+        for (Map.Entry<ResourceLocation, Tag<T>> entry : tags.entrySet())
+        {
+            names[tagId] = entry.getKey();
+            for (T value : entry.getValue().getAllElements())
+            {
+                int id = registryIds.getInt(value);
+                if (id < 0)
+                    continue;
+                if (reverse[id] == null)
+                    reverse[id] = new BitSet(tags.size());
+                reverse[id].set(tagId);
+            }
+            tagId++;
+        }
+
+        // Entries with identical tag sets share a single instance
+        Map<BitSet, Set<ResourceLocation>> interned = new HashMap<>();
+        this.owningTags = new Set[maxId + 1];
+        for (int id = 0; id <= maxId; id++)
+        {
+            if (reverse[id] == null)
+            {
+                this.owningTags[id] = Collections.emptySet();
+                continue;
+            }
+            this.owningTags[id] = interned.computeIfAbsent(reverse[id], bits -> {
+                ImmutableSet.Builder<ResourceLocation> builder = ImmutableSet.builder();
+                for (int bit = bits.nextSetBit(0); bit >= 0; bit = bits.nextSetBit(bit + 1))
+                    builder.add(names[bit]);
+                return builder.build();
+            });
+        }
+    }
+
+    /**
+     * @return True if this table was baked from the given collection and generation, and no remap has happened since.
+     */
+    public boolean isCurrent(TagCollection<T> collection, int generation)
+    {
+        return this.generation == generation && this.remap == remapGeneration && this.collection.get() == collection;
+    }
+
+    public Set<ResourceLocation> getOwningTags(T value)
+    {
+        int id = registryIds.getInt(value);
+        return id < 0 || id >= owningTags.length ? Collections.emptySet() : owningTags[id];
+    }
+}
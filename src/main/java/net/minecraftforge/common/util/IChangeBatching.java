@@ -0,0 +1,54 @@
+/*
+ * Minecraft Forge
+ * Copyright (c) 2016-2019.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation version 2.1
+ * of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package net.minecraftforge.common.util;
+
+/**
+ * Implemented by item and fluid handlers that can defer their change notifications.
+ * While a batch is open, changes are only collected, and the handler is notified once
+ * when the outermost batch is closed. Batches may be nested and must each be closed exactly once.
+ *
+ * <pre>
+ * try (IChangeBatching.Batch batch = IChangeBatching.begin(handler))
+ * {
+ *     // many inserts or fills
+ * }
+ * </pre>
+ */
+public interface IChangeBatching
+{
+    Batch NONE = () -> {};
+
+    Batch beginBatch();
+
+    /**
+     * Opens a batch on the handler if it supports batching, otherwise returns a no-op batch.
+     */
+    static Batch begin(Object handler)
+    {
+        return handler instanceof IChangeBatching ? ((IChangeBatching)handler).beginBatch() : NONE;
+    }
+
+    @FunctionalInterface
+    interface Batch extends AutoCloseable
+    {
+        @Override
+        void close();
+    }
+}
@@ -27,13 +27,24 @@ import java.util.function.Supplier;
 
 import net.minecraft.tags.TagCollection;
 import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.registries.ForgeRegistry;
+import net.minecraftforge.registries.IForgeRegistryEntry;
+import net.minecraftforge.registries.RegistryManager;
 
+/**
+ * Reverse tag lookup for a single object. Registry entries read from the shared {@link BakedTagTable} of their collection,
+ * anything else rebuilds its own set when the tag generation changes.
+ */
 public class ReverseTagWrapper<T>
 {
     private final T target;
     private final IntSupplier genSupplier;
     private final Supplier<TagCollection<T>> colSupplier;
 
+    private ForgeRegistry<?> registry = null;
+    @SuppressWarnings("rawtypes")
+    private volatile BakedTagTable table = null;
+
     private int generation = -1;
     private Set<ResourceLocation> cache = null;
 
@@ -44,7 +55,27 @@ public class ReverseTagWrapper<T>
         this.colSupplier = colSupplier;
     }
 
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     public Set<ResourceLocation> getTagNames()
+    {
+        if (!(target instanceof IForgeRegistryEntry))
+            return getUnbakedTagNames();
+
+        TagCollection collection = colSupplier.get();
+        int gen = genSupplier.getAsInt();
+        BakedTagTable current = this.table;
+        if (current == null || !current.isCurrent(collection, gen))
+        {
+            if (this.registry == null)
+                this.registry = RegistryManager.ACTIVE.getRegistry((Class)((IForgeRegistryEntry<?>)target).getRegistryType());
+            if (this.registry == null)
+                return getUnbakedTagNames();
+            this.table = current = BakedTagTable.get(collection, gen, (ForgeRegistry)this.registry);
+        }
+        return current.getOwningTags((IForgeRegistryEntry)target);
+    }
+
+    private Set<ResourceLocation> getUnbakedTagNames()
     {
         if (cache == null || generation != genSupplier.getAsInt())
         {
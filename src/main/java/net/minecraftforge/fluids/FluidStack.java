@@ -258,12 +258,14 @@ public class FluidStack
      */
     public boolean isFluidEqual(@Nonnull FluidStack other)
     {
-        return getFluid() == other.getFluid() && isFluidStackTagEqual(other);
+        return this == other || (getFluid() == other.getFluid() && isFluidStackTagEqual(other));
     }
 
     private boolean isFluidStackTagEqual(FluidStack other)
     {
-        return tag == null ? other.tag == null : other.tag != null && tag.equals(other.tag);
+        if (tag == other.tag)
+            return true;
+        return tag != null && other.tag != null && tag.equals(other.tag);
     }
 
     /**
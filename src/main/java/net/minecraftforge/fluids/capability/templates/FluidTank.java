@@ -20,6 +20,7 @@
 package net.minecraftforge.fluids.capability.templates;
 
 import net.minecraft.nbt.CompoundNBT;
+import net.minecraftforge.common.util.IChangeBatching;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.IFluidTank;
 import net.minecraftforge.fluids.capability.IFluidHandler;
@@ -34,12 +35,14 @@ import java.util.function.Predicate;
  *
  * @author King Lemming
  */
-public class FluidTank implements IFluidHandler, IFluidTank {
+public class FluidTank implements IFluidHandler, IFluidTank, IChangeBatching {
 
     protected Predicate<FluidStack> validator;
     @Nonnull
     protected FluidStack fluid = FluidStack.EMPTY;
     protected int capacity;
+    private int batchDepth = 0;
+    private boolean batchChanged = false;
 
     public FluidTank(int capacity)
     {
@@ -148,7 +151,7 @@ public class FluidTank implements IFluidHandler, IFluidTank {
         if (fluid.isEmpty())
         {
             fluid = new FluidStack(resource, Math.min(capacity, resource.getAmount()));
-            onContentsChanged();
+            notifyChanged();
             return fluid.getAmount();
         }
         if (!fluid.isFluidEqual(resource))
@@ -167,7 +170,7 @@ public class FluidTank implements IFluidHandler, IFluidTank {
             fluid.setAmount(capacity);
         }
         if (filled > 0)
-            onContentsChanged();
+            notifyChanged();
         return filled;
     }
 
@@ -191,16 +194,43 @@ public class FluidTank implements IFluidHandler, IFluidTank {
         {
             drained = fluid.getAmount();
         }
+        if (drained <= 0)
+        {
+            return FluidStack.EMPTY;
+        }
         FluidStack stack = new FluidStack(fluid, drained);
-        if (action.execute() && drained > 0)
+        if (action.execute())
         {
             fluid.shrink(drained);
+            notifyChanged();
         }
-        if (drained > 0)
-            onContentsChanged();
         return stack;
     }
 
+    @Override
+    public Batch beginBatch()
+    {
+        batchDepth++;
+        return this::endBatch;
+    }
+
+    private void endBatch()
+    {
+        if (--batchDepth == 0 && batchChanged)
+        {
+            batchChanged = false;
+            onContentsChanged();
+        }
+    }
+
+    protected void notifyChanged()
+    {
+        if (batchDepth > 0)
+            batchChanged = true;
+        else
+            onContentsChanged();
+    }
+
     protected void onContentsChanged()
     {
 
@@ -22,10 +22,14 @@ package net.minecraftforge.fml;
 import static net.minecraftforge.fml.Logging.LOADING;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
@@ -52,6 +56,13 @@ import net.minecraftforge.forgespi.language.IModInfo;
  * <p>
  * Exceptions from tasks will be handled gracefully, causing a mod loading
  * error. Tasks that take egregiously long times to run will be logged.
+ * <p>
+ * Work may also be submitted to a named lane, such as {@code "biomes"}, for
+ * work which only needs to be serialized against other work touching the same
+ * subsystem. All main lane work runs first, on the loading thread. Named lanes
+ * then run concurrently with each other on the mod loading pool, with the
+ * tasks of each lane run in submission order. Mods touching the same global
+ * state must agree on the lane name.
  *
  * This is being deprecated in favour of a new interface on loading events, to remove confusion about how it operates. #TODO
  */
@@ -61,10 +72,12 @@ public class DeferredWorkQueue
     private static class TaskInfo
     {
         public final IModInfo owner;
+        public final String lane;
         public final Runnable task;
 
-        TaskInfo(IModInfo owner, Runnable task) {
+        TaskInfo(IModInfo owner, String lane, Runnable task) {
             this.owner = owner;
+            this.lane = lane;
             this.task = task;
         }
     }
@@ -83,10 +96,23 @@ public class DeferredWorkQueue
     private static final Logger LOGGER = LogManager.getLogger();
 
     private static ThreadLocal<ModContainer> currentOwner = new ThreadLocal<>();
-    private static List<ModLoadingException> raisedExceptions = new ArrayList<>();
+    private static List<ModLoadingException> raisedExceptions = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * The lane used by the methods which don't take one, run on the loading thread.
+     */
+    public static final String MAIN_LANE = "main";
 
     private static final ConcurrentLinkedDeque<TaskInfo> taskQueue = new ConcurrentLinkedDeque<>();
-    private static final Executor deferredExecutor = r -> taskQueue.add(new TaskInfo(currentOwner.get().getModInfo(), r));
+
+    private static Executor deferredExecutor(String lane) {
+        final IModInfo owner = currentOwner.get().getModInfo();
+        return r -> enqueue(owner, lane, r);
+    }
+
+    static void enqueue(IModInfo owner, String lane, Runnable task) {
+        taskQueue.add(new TaskInfo(owner, lane, task));
+    }
 
     private static <T> Function<Throwable, T> handleException() {
         final ModContainer owner = currentOwner.get();
@@ -112,8 +138,20 @@ public class DeferredWorkQueue
      * @return A {@link CompletableFuture} that completes at said time
      */
     public static CompletableFuture<Void> runLater(Runnable workToEnqueue) {
+        return runLater(MAIN_LANE, workToEnqueue);
+    }
+
+    /**
+     * Run a task in the given lane after the current lifecycle event has completed.
+     * Tasks in other lanes may run at the same time, on another thread.
+     *
+     * @param lane          The lane to run in, shared with all other mods using the same name
+     * @param workToEnqueue A {@link Runnable} to execute later
+     * @return A {@link CompletableFuture} that completes at said time
+     */
+    public static CompletableFuture<Void> runLater(String lane, Runnable workToEnqueue) {
         currentOwner.set(ModLoadingContext.get().getActiveContainer());
-        return CompletableFuture.runAsync(workToEnqueue, deferredExecutor).exceptionally(DeferredWorkQueue.handleException());
+        return CompletableFuture.runAsync(workToEnqueue, deferredExecutor(lane)).exceptionally(DeferredWorkQueue.handleException());
     }
 
     /**
@@ -132,7 +170,14 @@ public class DeferredWorkQueue
      * @return A {@link CompletableFuture} that completes at said time
      */
     public static CompletableFuture<Void> runLaterChecked(CheckedRunnable workToEnqueue) {
-        return runLater(() -> {
+        return runLaterChecked(MAIN_LANE, workToEnqueue);
+    }
+
+    /**
+     * Variant of {@link #runLater(String, Runnable)} which allows the task to throw a checked exception.
+     */
+    public static CompletableFuture<Void> runLaterChecked(String lane, CheckedRunnable workToEnqueue) {
+        return runLater(lane, () -> {
             try {
                 workToEnqueue.run();
             } catch (Throwable t) {
@@ -157,8 +202,21 @@ public class DeferredWorkQueue
      * @return A {@link CompletableFuture} that completes at said time
      */
     public static <T> CompletableFuture<T> getLater(Supplier<T> workToEnqueue) {
+        return getLater(MAIN_LANE, workToEnqueue);
+    }
+
+    /**
+     * Run a task computing a result in the given lane after the current lifecycle event has completed.
+     * Tasks in other lanes may run at the same time, on another thread.
+     *
+     * @param               <T> The result type of the task
+     * @param lane          The lane to run in, shared with all other mods using the same name
+     * @param workToEnqueue A {@link Supplier} to execute later
+     * @return A {@link CompletableFuture} that completes at said time
+     */
+    public static <T> CompletableFuture<T> getLater(String lane, Supplier<T> workToEnqueue) {
         currentOwner.set(ModLoadingContext.get().getActiveContainer());
-        return CompletableFuture.supplyAsync(workToEnqueue, deferredExecutor).exceptionally(DeferredWorkQueue.handleException());
+        return CompletableFuture.supplyAsync(workToEnqueue, deferredExecutor(lane)).exceptionally(DeferredWorkQueue.handleException());
     }
 
     /**
@@ -178,7 +236,14 @@ public class DeferredWorkQueue
      * @return A {@link CompletableFuture} that completes at said time
      */
     public static <T> CompletableFuture<T> getLaterChecked(Callable<T> workToEnqueue) {
-        return getLater(() -> {
+        return getLaterChecked(MAIN_LANE, workToEnqueue);
+    }
+
+    /**
+     * Variant of {@link #getLater(String, Supplier)} which allows the task to throw a checked exception.
+     */
+    public static <T> CompletableFuture<T> getLaterChecked(String lane, Callable<T> workToEnqueue) {
+        return getLater(lane, () -> {
             try {
                 return workToEnqueue.call();
             } catch (Throwable t) {
@@ -191,25 +256,54 @@ public class DeferredWorkQueue
         taskQueue.clear();
     }
 
-    static void runTasks(ModLoadingStage fromStage, Consumer<List<ModLoadingException>> errorHandler, final Executor executor) {
+    static void runTasks(ModLoadingStage fromStage, Consumer<List<ModLoadingException>> errorHandler, final Executor executor, final Executor laneExecutor) {
         raisedExceptions.clear();
         if (taskQueue.isEmpty()) return; // Don't log unnecessarily
         LOGGER.info(LOADING, "Dispatching synchronous work after {}: {} jobs", fromStage, taskQueue.size());
         StopWatch globalTimer = StopWatch.createStarted();
-        final CompletableFuture<Void> tasks = CompletableFuture.allOf(taskQueue.stream().map(ti -> makeRunnable(ti, executor)).toArray(CompletableFuture[]::new));
-        tasks.join();
+        final Map<String, Long> modTimes = new ConcurrentHashMap<>();
+        final Map<String, List<TaskInfo>> lanes = taskQueue.stream().collect(Collectors.groupingBy(ti -> ti.lane, LinkedHashMap::new, Collectors.toList()));
+        final List<TaskInfo> mainLane = lanes.remove(MAIN_LANE);
+        if (mainLane != null) {
+            final CompletableFuture<Void> tasks = CompletableFuture.allOf(mainLane.stream().map(ti -> makeRunnable(ti, executor, modTimes)).toArray(CompletableFuture[]::new));
+            tasks.join();
+        }
+        if (!lanes.isEmpty()) {
+            LOGGER.debug(LOADING, "Running deferred work lanes {}", lanes.keySet());
+            final CompletableFuture<Void> tasks = CompletableFuture.allOf(lanes.values().stream()
+                    .map(lane -> CompletableFuture.runAsync(() -> lane.forEach(ti -> runTask(ti, modTimes)), laneExecutor))
+                    .toArray(CompletableFuture[]::new));
+            tasks.join();
+        }
         LOGGER.info(LOADING, "Synchronous work queue completed in {}", globalTimer);
+        reportModTimes(fromStage, modTimes);
         errorHandler.accept(raisedExceptions);
     }
 
-    private static CompletableFuture<?> makeRunnable(TaskInfo ti, Executor executor) {
-        return CompletableFuture.runAsync(() -> {
-            Stopwatch timer = Stopwatch.createStarted();
-            ti.task.run();
-            timer.stop();
-            if (timer.elapsed(TimeUnit.SECONDS) >= 1) {
-                LOGGER.warn(LOADING, "Mod '{}' took {} to run a deferred task.", ti.owner.getModId(), timer);
-            }
-        }, executor);
+    private static CompletableFuture<?> makeRunnable(TaskInfo ti, Executor executor, Map<String, Long> modTimes) {
+        return CompletableFuture.runAsync(() -> runTask(ti, modTimes), executor);
+    }
+
+    private static void runTask(TaskInfo ti, Map<String, Long> modTimes) {
+        Stopwatch timer = Stopwatch.createStarted();
+        ti.task.run();
+        timer.stop();
+        modTimes.merge(ti.owner.getModId(), timer.elapsed(TimeUnit.NANOSECONDS), Long::sum);
+        if (timer.elapsed(TimeUnit.SECONDS) >= 1) {
+            LOGGER.warn(LOADING, "Mod '{}' took {} to run a deferred task in lane '{}'.", ti.owner.getModId(), timer, ti.lane);
+        }
+    }
+
+    private static void reportModTimes(ModLoadingStage fromStage, Map<String, Long> modTimes) {
+        final List<Map.Entry<String, Long>> sorted = modTimes.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .collect(Collectors.toList());
+        LOGGER.debug(LOADING, "Deferred work time by mod after {}: {}", fromStage, sorted.stream()
+                .map(e -> e.getKey() + " " + TimeUnit.NANOSECONDS.toMillis(e.getValue()) + " ms")
+                .collect(Collectors.joining(", ")));
+        if (!sorted.isEmpty()) {
+            final Map.Entry<String, Long> slowest = sorted.get(0);
+            StartupMessageManager.addModMessage("Deferred work: " + slowest.getKey() + " took " + TimeUnit.NANOSECONDS.toMillis(slowest.getValue()) + " ms");
+        }
     }
 }
@@ -22,14 +22,18 @@ package net.minecraftforge.fml;
 import net.minecraftforge.fml.loading.FMLConfig;
 import net.minecraftforge.forgespi.language.ModFileScanData;
 import net.minecraftforge.fml.loading.FMLLoader;
+import net.minecraftforge.fml.loading.FMLPaths;
 import net.minecraftforge.fml.loading.moddiscovery.ModFile;
 import net.minecraftforge.fml.loading.moddiscovery.ModFileInfo;
 import net.minecraftforge.fml.loading.moddiscovery.ModInfo;
+import net.minecraftforge.forgespi.language.IModInfo;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -58,6 +62,10 @@ public class ModList
     private Map<String, ModContainer> indexedMods;
     private ForkJoinPool modLoadingThreadPool;
     private List<ModFileScanData> modFileScanData;
+    // modid -> mods which must finish a parallel stage before it may start
+    private Map<String, List<String>> loadingDependencies;
+    private static final long TICKER_INTERVAL_MS = 1000 / 30;
+    private final ModLoadingTrace loadingTrace = new ModLoadingTrace();
 
     private ModList(final List<ModFile> modFiles, final List<ModInfo> sortedList)
     {
@@ -131,11 +139,20 @@ public class ModList
         DeferredWorkQueue.clear();
         try
         {
-            final ForkJoinTask<?> parallelTask = modLoadingThreadPool.submit(() -> this.mods.parallelStream().forEach(m -> m.transitionState(lifecycleEvent, errorHandler)));
+            final Map<String, ModLoadingTrace.Span> spans = new ConcurrentHashMap<>();
+            final CompletableFuture<Void> parallelTask = scheduleByDependencies(lifecycleEvent, errorHandler, spans);
+            // Tick at most once per frame interval. The wait returns as soon as the work is done, so finishing
+            // is never held up by a frame, and the loading screen doesn't spin on buffer swaps in between.
             while (ticker != null && !parallelTask.isDone()) {
                 executor.execute(ticker);
+                try {
+                    parallelTask.get(TICKER_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    // next frame
+                }
             }
             parallelTask.get();
+            logCriticalPath(lifecycleEvent.fromStage(), spans);
         }
         catch (InterruptedException | ExecutionException e)
         {
@@ -148,14 +165,90 @@ public class ModList
                 throw new RuntimeException("Forge played \"STOP IT NOW MODS!\" - it was \"NOT VERY EFFECTIVE\"");
             }
         }
-        DeferredWorkQueue.runTasks(lifecycleEvent.fromStage(), errorHandler, executor);
+        DeferredWorkQueue.runTasks(lifecycleEvent.fromStage(), errorHandler, executor, modLoadingThreadPool);
         FMLLoader.getLanguageLoadingProvider().forEach(lp->lp.consumeLifecycleEvent(()->lifecycleEvent));
     }
 
+    /**
+     * Writes the spans of every parallel stage so far, called once after the last one.
+     */
+    void writeLoadingTrace() {
+        if (FMLConfig.writeLoadingTrace()) {
+            loadingTrace.write(FMLPaths.GAMEDIR.get().resolve("logs").resolve("modloading-trace.json"));
+        }
+    }
+
+    /**
+     * Starts each mod's handlers as soon as every mod it is ordered after has finished this stage.
+     * Mods without ordering constraints between them still run concurrently.
+     */
+    private CompletableFuture<Void> scheduleByDependencies(LifecycleEventProvider.LifecycleEvent lifecycleEvent, final Consumer<List<ModLoadingException>> errorHandler, final Map<String, ModLoadingTrace.Span> spans) {
+        final Map<String, CompletableFuture<Void>> tasks = new HashMap<>();
+        this.mods.forEach(m -> schedule(m, tasks, lifecycleEvent, errorHandler, spans));
+        return CompletableFuture.allOf(tasks.values().toArray(new CompletableFuture[0]));
+    }
+
+    private CompletableFuture<Void> schedule(ModContainer mod, Map<String, CompletableFuture<Void>> tasks, LifecycleEventProvider.LifecycleEvent lifecycleEvent, final Consumer<List<ModLoadingException>> errorHandler, final Map<String, ModLoadingTrace.Span> spans) {
+        CompletableFuture<Void> task = tasks.get(mod.getModId());
+        if (task != null) {
+            return task;
+        }
+        // ModSorter already rejected cycles, so this recursion terminates
+        final CompletableFuture<?>[] prerequisites = loadingDependencies.getOrDefault(mod.getModId(), Collections.emptyList()).stream()
+                .map(indexedMods::get)
+                .map(dep -> schedule(dep, tasks, lifecycleEvent, errorHandler, spans))
+                .toArray(CompletableFuture[]::new);
+        task = CompletableFuture.allOf(prerequisites).thenRunAsync(() -> {
+            final long start = System.nanoTime();
+            try {
+                mod.transitionState(lifecycleEvent, errorHandler);
+            } finally {
+                spans.put(mod.getModId(), loadingTrace.record(mod.getModId(), lifecycleEvent.fromStage(), start, System.nanoTime()));
+            }
+        }, modLoadingThreadPool);
+        tasks.put(mod.getModId(), task);
+        return task;
+    }
+
+    private void logCriticalPath(ModLoadingStage stage, Map<String, ModLoadingTrace.Span> spans) {
+        final boolean debug = LOGGER.isDebugEnabled(LOADING);
+        // The trace file needs the spans flagged even when nothing is logged
+        if (!debug && !FMLConfig.writeLoadingTrace()) {
+            return;
+        }
+        final List<ModLoadingTrace.Span> path = ModLoadingTrace.markCriticalPath(spans, loadingDependencies);
+        if (!debug || path.isEmpty()) {
+            return;
+        }
+        LOGGER.debug(LOADING, "Critical path for {} took {} ms: {}", stage,
+                (path.get(path.size() - 1).end - path.get(0).start) / 1_000_000L,
+                path.stream().map(span -> span.modId + " (" + (span.end - span.start) / 1_000_000L + " ms)").collect(Collectors.joining(" -> ")));
+    }
+
     void setLoadedMods(final List<ModContainer> modContainers)
     {
         this.mods = modContainers;
         this.indexedMods = modContainers.stream().collect(Collectors.toMap(ModContainer::getModId, Function.identity()));
+        this.loadingDependencies = new HashMap<>();
+        modContainers.forEach(mc -> mc.getModInfo().getDependencies().forEach(this::addLoadingDependency));
+    }
+
+    private void addLoadingDependency(IModInfo.ModVersion dep) {
+        final IModInfo self = dep.getOwner();
+        final ModContainer target = this.indexedMods.get(dep.getModId());
+        // Same rules as ModSorter: absent soft dependencies and mods sharing a file impose no ordering
+        if (target == null || target.getModInfo().getOwningFile() == self.getOwningFile())
+            return;
+        switch (dep.getOrdering()) {
+            case BEFORE:
+                this.loadingDependencies.computeIfAbsent(target.getModId(), k -> new ArrayList<>()).add(self.getModId());
+                break;
+            case AFTER:
+                this.loadingDependencies.computeIfAbsent(self.getModId(), k -> new ArrayList<>()).add(target.getModId());
+                break;
+            case NONE:
+                break;
+        }
     }
 
     @SuppressWarnings("unchecked")
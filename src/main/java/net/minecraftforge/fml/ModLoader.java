@@ -251,6 +251,7 @@ public class ModLoader
         dispatchAndHandleError(LifecycleEventProvider.PROCESS_IMC, mainThreadExecutor, null);
         statusConsumer.ifPresent(c->c.accept("Mod setup: Final completion"));
         dispatchAndHandleError(LifecycleEventProvider.COMPLETE, mainThreadExecutor, null);
+        ModList.get().writeLoadingTrace();
         statusConsumer.ifPresent(c->c.accept("Freezing data"));
         GameData.freezeData();
         NetworkRegistry.lock();
@@ -0,0 +1,159 @@
+/*
+ * Minecraft Forge
+ * Copyright (c) 2016-2019.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation version 2.1
+ * of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package net.minecraftforge.fml;
+
+import com.google.gson.stream.JsonWriter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static net.minecraftforge.fml.Logging.LOADING;
+
+/**
+ * Records how long each mod spent in each parallel loading stage, and can write the result
+ * in the Chrome trace event format (viewable in chrome://tracing or Perfetto).
+ */
+class ModLoadingTrace
+{
+    private static final Logger LOGGER = LogManager.getLogger();
+    private final long origin = System.nanoTime();
+    private final List<Span> spans = new ArrayList<>();
+
+    static class Span
+    {
+        final String modId;
+        final ModLoadingStage stage;
+        final long start;
+        final long end;
+        final long threadId;
+        final String threadName;
+        boolean critical;
+
+        private Span(String modId, ModLoadingStage stage, long start, long end, Thread thread)
+        {
+            this.modId = modId;
+            this.stage = stage;
+            this.start = start;
+            this.end = end;
+            this.threadId = thread.getId();
+            this.threadName = thread.getName();
+        }
+    }
+
+    /**
+     * Called from the thread which ran the mod's handlers, once they complete.
+     */
+    synchronized Span record(String modId, ModLoadingStage stage, long start, long end)
+    {
+        Span span = new Span(modId, stage, start, end, Thread.currentThread());
+        spans.add(span);
+        return span;
+    }
+
+    synchronized void write(Path file)
+    {
+        Map<Long, String> threads = new HashMap<>();
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8); JsonWriter json = new JsonWriter(out))
+        {
+            json.beginObject();
+            json.name("traceEvents").beginArray();
+            for (Span span : spans)
+            {
+                threads.put(span.threadId, span.threadName);
+                json.beginObject();
+                json.name("name").value(span.modId);
+                json.name("cat").value(span.stage.name());
+                json.name("ph").value("X");
+                json.name("ts").value((span.start - origin) / 1000L);
+                json.name("dur").value((span.end - span.start) / 1000L);
+                json.name("pid").value(0);
+                json.name("tid").value(span.threadId);
+                json.name("args").beginObject().name("critical").value(span.critical).endObject();
+                json.endObject();
+            }
+            for (Map.Entry<Long, String> thread : threads.entrySet())
+            {
+                json.beginObject();
+                json.name("name").value("thread_name");
+                json.name("ph").value("M");
+                json.name("pid").value(0);
+                json.name("tid").value(thread.getKey());
+                json.name("args").beginObject().name("name").value(thread.getValue()).endObject();
+                json.endObject();
+            }
+            json.endArray();
+            json.endObject();
+        }
+        catch (IOException e)
+        {
+            LOGGER.error(LOADING, "Failed to write mod loading trace to {}", file, e);
+        }
+    }
+
+    /**
+     * Walks back from the last mod to finish, through whichever of its dependencies finished last,
+     * and flags those spans as the critical path of the stage.
+     *
+     * @param spans the spans of a single stage, by mod id
+     * @param dependencies the mods each mod had to wait for
+     * @return the critical path, first mod first
+     */
+    static List<Span> markCriticalPath(Map<String, Span> spans, Map<String, List<String>> dependencies)
+    {
+        List<Span> path = new ArrayList<>();
+        Span current = latest(spans.values());
+        while (current != null)
+        {
+            current.critical = true;
+            path.add(0, current);
+            List<Span> prerequisites = new ArrayList<>();
+            for (String dep : dependencies.getOrDefault(current.modId, Collections.emptyList()))
+            {
+                Span span = spans.get(dep);
+                if (span != null)
+                    prerequisites.add(span);
+            }
+            current = latest(prerequisites);
+        }
+        return path;
+    }
+
+    private static Span latest(Collection<Span> spans)
+    {
+        Span latest = null;
+        for (Span span : spans)
+        {
+            if (latest == null || span.end > latest.end)
+                latest = span;
+        }
+        return latest;
+    }
+}
@@ -21,46 +21,47 @@ package net.minecraftforge.fml;
 
 import com.google.common.io.ByteStreams;
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
 import net.minecraftforge.common.ForgeConfig;
 import net.minecraftforge.fml.loading.FMLConfig;
+import net.minecraftforge.fml.loading.FMLPaths;
 import net.minecraftforge.fml.loading.moddiscovery.ModInfo;
 import net.minecraftforge.forgespi.language.IModInfo;
 import net.minecraftforge.versions.mcp.MCPVersion;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.maven.artifact.versioning.ComparableVersion;
-import java.io.IOException;
-import java.io.InputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.net.URLConnection;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import javax.annotation.Nonnull;
-import javax.annotation.Nullable;
-
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static net.minecraftforge.fml.VersionChecker.Status.*;
 
@@ -141,156 +142,331 @@ public class VersionChecker
         }
     }
 
+    private static final int THREADS = Integer.getInteger("forge.versionCheck.threads", 4);
+    private static final long CACHE_TTL = Long.getLong("forge.versionCheck.cacheTTL", TimeUnit.HOURS.toMillis(6));
+    private static final int TIMEOUT = (int)TimeUnit.SECONDS.toMillis(15);
+    private static final Gson GSON = new Gson();
+
+    @Nullable
+    private static volatile ExecutorService executor;
+    // Set by cancel(), so fetches it breaks off leave their mods pending instead of failed
+    private static volatile boolean cancelled;
+    // Connections currently being read, so cancel() can close them
+    private static final Set<HttpURLConnection> connections = ConcurrentHashMap.newKeySet();
+    static Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
+    private static final AtomicBoolean cacheSaved = new AtomicBoolean();
+
+    static class CacheEntry
+    {
+        String etag;
+        String lastModified;
+        long fetched;
+        String body;
+    }
+
     public static void startVersionCheck()
     {
-        new Thread("Forge Version Check")
+        if (!FMLConfig.runVersionCheck())
         {
-            @Override
-            public void run()
-            {
-                if (!FMLConfig.runVersionCheck())
-                {
-                    LOGGER.info("Global Forge version check system disabled, no further processing.");
-                    return;
-                }
+            LOGGER.info("Global Forge version check system disabled, no further processing.");
+            return;
+        }
 
-                gatherMods().forEach(this::process);
+        final AtomicInteger threadNum = new AtomicInteger();
+        final ExecutorService pool = Executors.newFixedThreadPool(THREADS, r -> {
+            Thread thread = new Thread(r, "Forge Version Check-" + threadNum.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor = pool;
+        cancelled = false;
+        cacheSaved.set(false);
+        loadCache();
+
+        // Many mods share an update json, each url is only fetched once and the result handed to every mod using it
+        Map<String, CompletableFuture<String>> fetches = new HashMap<>();
+        List<CompletableFuture<?>> checks = new ArrayList<>();
+        for (IModInfo mod : gatherMods())
+        {
+            URL url = mod.getUpdateURL();
+            CompletableFuture<String> fetch = fetches.computeIfAbsent(url.toString(), k -> CompletableFuture.supplyAsync(() -> fetch(url), pool));
+            checks.add(fetch.handle((data, error) -> {
+                process(mod, data, error);
+                return null;
+            }));
+        }
+        // Forget update urls no mod uses anymore, so the cache file doesn't keep growing
+        cache.keySet().retainAll(fetches.keySet());
+        CompletableFuture.allOf(checks.toArray(new CompletableFuture[0])).whenComplete((r, e) -> {
+            saveCache();
+            pool.shutdown();
+        });
+    }
+
+    /**
+     * Stops any version checks which are still outstanding. Mods whose check didn't finish are left {@link Status#PENDING}.
+     */
+    public static void cancel()
+    {
+        cancelled = true;
+        ExecutorService pool = executor;
+        executor = null;
+        if (pool != null && !pool.isTerminated())
+        {
+            LOGGER.debug("Cancelling outstanding version checks");
+            pool.shutdownNow();
+            saveCache();
+        }
+        // Interrupts don't unblock a connection waiting on the server, closing it does
+        connections.forEach(HttpURLConnection::disconnect);
+    }
+
+    private static Path getCacheFile()
+    {
+        return FMLPaths.GAMEDIR.get().resolve("versioncheck.cache");
+    }
+
+    private static void loadCache()
+    {
+        Path file = getCacheFile();
+        if (!Files.exists(file))
+            return;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8))
+        {
+            Map<String, CacheEntry> loaded = GSON.fromJson(reader, new TypeToken<Map<String, CacheEntry>>(){}.getType());
+            if (loaded != null)
+                cache = new ConcurrentHashMap<>(loaded);
+        }
+        catch (IOException | JsonParseException e)
+        {
+            LOGGER.debug("Ignoring unreadable version check cache {}", file, e);
+        }
+    }
+
+    private static void saveCache()
+    {
+        if (!cacheSaved.compareAndSet(false, true))
+            return;
+        try (Writer writer = Files.newBufferedWriter(getCacheFile(), StandardCharsets.UTF_8))
+        {
+            GSON.toJson(cache, writer);
+        }
+        catch (IOException e)
+        {
+            LOGGER.debug("Failed to write version check cache", e);
+        }
+    }
+
+    /**
+     * Returns the body of the given update url, from the cache if it is fresh enough or the server says it hasn't changed.
+     */
+    static String fetch(URL url)
+    {
+        String key = url.toString();
+        CacheEntry cached = cache.get(key);
+        long now = System.currentTimeMillis();
+        if (cached != null && cached.body != null && now - cached.fetched < CACHE_TTL)
+        {
+            LOGGER.debug("Using cached version check data for {}", key);
+            return cached.body;
+        }
+        URLConnection c = null;
+        try
+        {
+            LOGGER.info("Starting version check at {}", key);
+            c = openUrlConnection(url, cached);
+            if (cached != null && c instanceof HttpURLConnection && ((HttpURLConnection)c).getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED)
+            {
+                drain(c);
+                cached.fetched = now;
+                return cached.body;
+            }
+            CacheEntry entry = new CacheEntry();
+            try (InputStream in = c.getInputStream())
+            {
+                entry.body = new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8);
             }
+            entry.etag = c.getHeaderField("ETag");
+            entry.lastModified = c.getHeaderField("Last-Modified");
+            entry.fetched = now;
+            cache.put(key, entry);
+            return entry.body;
+        }
+        catch (IOException e)
+        {
+            throw new CompletionException(e);
+        }
+        finally
+        {
+            if (c instanceof HttpURLConnection)
+                connections.remove(c);
+        }
+    }
 
-            /**
-             * Opens stream for given URL while following redirects
-             */
-            private InputStream openUrlStream(URL url) throws IOException
+    /**
+     * Opens a connection to the given URL while following redirects. Responses are read to the end and closed rather
+     * than disconnected, so the underlying keep-alive connection can be reused for further checks against the same host.
+     * The returned connection stays registered for {@link #cancel()} until the caller removes it.
+     */
+    private static URLConnection openUrlConnection(URL url, @Nullable CacheEntry cached) throws IOException
+    {
+        URL currentUrl = url;
+        for (int redirects = 0; redirects < MAX_HTTP_REDIRECTS; redirects++)
+        {
+            URLConnection c = currentUrl.openConnection();
+            c.setConnectTimeout(TIMEOUT);
+            c.setReadTimeout(TIMEOUT);
+            if (c instanceof HttpURLConnection)
             {
-                URL currentUrl = url;
-                for (int redirects = 0; redirects < MAX_HTTP_REDIRECTS; redirects++)
+                HttpURLConnection huc = (HttpURLConnection) c;
+                connections.add(huc);
+                try
                 {
-                    URLConnection c = currentUrl.openConnection();
-                    if (c instanceof HttpURLConnection)
+                    // cancel() interrupts before closing connections, so one opened since is dropped here
+                    if (Thread.currentThread().isInterrupted())
+                        throw new InterruptedIOException("Version check cancelled");
+                    huc.setInstanceFollowRedirects(false);
+                    if (cached != null && cached.body != null)
                     {
-                        HttpURLConnection huc = (HttpURLConnection) c;
-                        huc.setInstanceFollowRedirects(false);
-                        int responseCode = huc.getResponseCode();
-                        if (responseCode >= 300 && responseCode <= 399)
-                        {
-                            try
-                            {
-                                String loc = huc.getHeaderField("Location");
-                                currentUrl = new URL(currentUrl, loc);
-                                continue;
-                            }
-                            finally
-                            {
-                                huc.disconnect();
-                            }
-                        }
+                        if (cached.etag != null)
+                            huc.setRequestProperty("If-None-Match", cached.etag);
+                        if (cached.lastModified != null)
+                            huc.setRequestProperty("If-Modified-Since", cached.lastModified);
+                    }
+                    int responseCode = huc.getResponseCode();
+                    if (responseCode >= 300 && responseCode <= 399 && responseCode != HttpURLConnection.HTTP_NOT_MODIFIED)
+                    {
+                        String loc = huc.getHeaderField("Location");
+                        drain(huc);
+                        connections.remove(huc);
+                        currentUrl = new URL(currentUrl, loc);
+                        continue;
                     }
-
-                    return c.getInputStream();
                 }
-                throw new IOException("Too many redirects while trying to fetch " + url);
+                catch (IOException e)
+                {
+                    connections.remove(huc);
+                    throw e;
+                }
             }
 
-            @SuppressWarnings("UnstableApiUsage")
-            private void process(IModInfo mod)
-            {
-                Status status = PENDING;
-                ComparableVersion target = null;
-                Map<ComparableVersion, String> changes = null;
-                String display_url = null;
-                try
-                {
-                    URL url = mod.getUpdateURL();
-                    LOGGER.info("[{}] Starting version check at {}", mod.getModId(), url.toString());
+            return c;
+        }
+        throw new IOException("Too many redirects while trying to fetch " + url);
+    }
 
-                    InputStream con = openUrlStream(url);
-                    String data = new String(ByteStreams.toByteArray(con), StandardCharsets.UTF_8);
-                    con.close();
+    private static void drain(URLConnection c)
+    {
+        try (InputStream in = c.getInputStream())
+        {
+            ByteStreams.exhaust(in);
+        }
+        catch (IOException e)
+        {
+            // Nothing to reuse
+        }
+    }
 
-                    LOGGER.debug("[{}] Received version check data:\n{}", mod.getModId(), data);
+    private static void process(IModInfo mod, @Nullable String data, @Nullable Throwable error)
+    {
+        Status status = PENDING;
+        ComparableVersion target = null;
+        Map<ComparableVersion, String> changes = null;
+        String display_url = null;
+        if (error != null && cancelled)
+        {
+            LOGGER.debug("[{}] Version check cancelled", mod.getModId());
+            return;
+        }
+        if (error != null)
+        {
+            LOGGER.warn("[{}] Failed to fetch update information", mod.getModId(), error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            results.put(mod, new CheckResult(FAILED, null, null, null));
+            return;
+        }
+        try
+        {
+            LOGGER.debug("[{}] Received version check data:\n{}", mod.getModId(), data);
 
+            @SuppressWarnings("unchecked")
+            Map<String, Object> json = GSON.fromJson(data, Map.class);
+            @SuppressWarnings("unchecked")
+            Map<String, String> promos = (Map<String, String>)json.get("promos");
+            display_url = (String)json.get("homepage");
 
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> json = new Gson().fromJson(data, Map.class);
-                    @SuppressWarnings("unchecked")
-                    Map<String, String> promos = (Map<String, String>)json.get("promos");
-                    display_url = (String)json.get("homepage");
+            String mcVersion = MCPVersion.getMCVersion();
+            String rec = promos.get(mcVersion + "-recommended");
+            String lat = promos.get(mcVersion + "-latest");
+            ComparableVersion current = new ComparableVersion(mod.getVersion().toString());
 
-                    String mcVersion = MCPVersion.getMCVersion();
-                    String rec = promos.get(mcVersion + "-recommended");
-                    String lat = promos.get(mcVersion + "-latest");
-                    ComparableVersion current = new ComparableVersion(mod.getVersion().toString());
+            if (rec != null)
+            {
+                ComparableVersion recommended = new ComparableVersion(rec);
+                int diff = recommended.compareTo(current);
 
-                    if (rec != null)
+                if (diff == 0)
+                    status = UP_TO_DATE;
+                else if (diff < 0)
+                {
+                    status = AHEAD;
+                    if (lat != null)
                     {
-                        ComparableVersion recommended = new ComparableVersion(rec);
-                        int diff = recommended.compareTo(current);
-
-                        if (diff == 0)
-                            status = UP_TO_DATE;
-                        else if (diff < 0)
-                        {
-                            status = AHEAD;
-                            if (lat != null)
-                            {
-                                ComparableVersion latest = new ComparableVersion(lat);
-                                if (current.compareTo(latest) < 0)
-                                {
-                                    status = OUTDATED;
-                                    target = latest;
-                                }
-                            }
-                        }
-                        else
+                        ComparableVersion latest = new ComparableVersion(lat);
+                        if (current.compareTo(latest) < 0)
                         {
                             status = OUTDATED;
-                            target = recommended;
+                            target = latest;
                         }
                     }
-                    else if (lat != null)
-                    {
-                        ComparableVersion latest = new ComparableVersion(lat);
-                        if (current.compareTo(latest) < 0)
-                            status = BETA_OUTDATED;
-                        else
-                            status = BETA;
-                        target = latest;
-                    }
-                    else
-                        status = BETA;
+                }
+                else
+                {
+                    status = OUTDATED;
+                    target = recommended;
+                }
+            }
+            else if (lat != null)
+            {
+                ComparableVersion latest = new ComparableVersion(lat);
+                if (current.compareTo(latest) < 0)
+                    status = BETA_OUTDATED;
+                else
+                    status = BETA;
+                target = latest;
+            }
+            else
+                status = BETA;
 
-                    LOGGER.info("[{}] Found status: {} Current: {} Target: {}", mod.getModId(), status, current, target);
+            LOGGER.info("[{}] Found status: {} Current: {} Target: {}", mod.getModId(), status, current, target);
 
-                    changes = new LinkedHashMap<>();
-                    @SuppressWarnings("unchecked")
-                    Map<String, String> tmp = (Map<String, String>)json.get(mcVersion);
-                    if (tmp != null)
+            changes = new LinkedHashMap<>();
+            @SuppressWarnings("unchecked")
+            Map<String, String> tmp = (Map<String, String>)json.get(mcVersion);
+            if (tmp != null)
+            {
+                List<ComparableVersion> ordered = new ArrayList<>();
+                for (String key : tmp.keySet())
+                {
+                    ComparableVersion ver = new ComparableVersion(key);
+                    if (ver.compareTo(current) > 0 && (target == null || ver.compareTo(target) < 1))
                     {
-                        List<ComparableVersion> ordered = new ArrayList<>();
-                        for (String key : tmp.keySet())
-                        {
-                            ComparableVersion ver = new ComparableVersion(key);
-                            if (ver.compareTo(current) > 0 && (target == null || ver.compareTo(target) < 1))
-                            {
-                                ordered.add(ver);
-                            }
-                        }
-                        Collections.sort(ordered);
-
-                        for (ComparableVersion ver : ordered)
-                        {
-                            changes.put(ver, tmp.get(ver.toString()));
-                        }
+                        ordered.add(ver);
                     }
                 }
-                catch (Exception e)
+                Collections.sort(ordered);
+
+                for (ComparableVersion ver : ordered)
                 {
-                    LOGGER.warn("Failed to process update information", e);
-                    status = FAILED;
+                    changes.put(ver, tmp.get(ver.toString()));
                 }
-                results.put(mod, new CheckResult(status, target, changes, display_url));
             }
-        }.start();
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("[{}] Failed to process update information", mod.getModId(), e);
+            status = FAILED;
+        }
+        results.put(mod, new CheckResult(status, target, changes, display_url));
     }
 
     // Gather a list of mods that have opted in to this update system by providing a URL.
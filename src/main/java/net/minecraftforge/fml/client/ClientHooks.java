@@ -69,6 +69,7 @@ import net.minecraft.resources.SimpleReloadableResourceManager;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.storage.WorldSummary;
 import net.minecraftforge.fml.StartupQuery;
+import net.minecraftforge.fml.VersionChecker;
 import net.minecraftforge.fml.common.ObfuscationReflectionHelper;
 import net.minecraftforge.forgespi.language.IModInfo;
 import net.minecraftforge.fml.packs.ModFileResourcePack;
@@ -314,6 +315,8 @@ public class ClientHooks
     }
 
     public static void firePlayerLogin(PlayerController pc, ClientPlayerEntity player, NetworkManager networkManager) {
+        // Update notifications are only shown on the menus, don't keep using the network once in game
+        VersionChecker.cancel();
         MinecraftForge.EVENT_BUS.post(new ClientPlayerNetworkEvent.LoggedInEvent(pc, player, networkManager));
     }
 
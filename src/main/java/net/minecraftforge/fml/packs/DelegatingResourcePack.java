@@ -25,7 +25,10 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -40,6 +43,8 @@ import net.minecraft.util.ResourceLocation;
 public class DelegatingResourcePack extends ResourcePack
 {
     private final List<DelegatableResourcePack> delegates = new ArrayList<>();
+    // type -> namespace -> delegates providing it, in delegate order. Built on first lookup, guarded by delegates
+    private final Map<ResourcePackType, Map<String, List<DelegatableResourcePack>>> namespacesToPacks = new EnumMap<>(ResourcePackType.class);
     private final String name;
     private final PackMetadataSection packInfo;
     
@@ -61,6 +66,7 @@ public class DelegatingResourcePack extends ResourcePack
         synchronized(delegates)
         {
             this.delegates.add(pack);
+            this.namespacesToPacks.clear();
         }
     }
     
@@ -122,7 +128,7 @@ public class DelegatingResourcePack extends ResourcePack
         {
             synchronized (delegates)
             {
-                for (DelegatableResourcePack pack : delegates)
+                for (DelegatableResourcePack pack : getCandidates(resourcePath))
                 {
                     if (pack.resourceExists(resourcePath))
                     {
@@ -139,7 +145,7 @@ public class DelegatingResourcePack extends ResourcePack
     {
         synchronized (delegates)
         {
-            for (DelegatableResourcePack pack : delegates)
+            for (DelegatableResourcePack pack : getCandidates(resourcePath))
             {
                 if (pack.resourceExists(resourcePath))
                 {
@@ -149,4 +155,40 @@ public class DelegatingResourcePack extends ResourcePack
         }
         return false;
     }
+
+    /**
+     * Resources under {@code assets/<namespace>/} or {@code data/<namespace>/} can only come from delegates which
+     * provide that namespace, so only those are probed. Anything else is looked for in every delegate.
+     * Must be called while holding the delegates lock.
+     */
+    private List<DelegatableResourcePack> getCandidates(String resourcePath)
+    {
+        int typeEnd = resourcePath.indexOf('/');
+        int namespaceEnd = typeEnd < 0 ? -1 : resourcePath.indexOf('/', typeEnd + 1);
+        if (namespaceEnd < 0)
+            return delegates;
+        String typeDirectory = resourcePath.substring(0, typeEnd);
+        for (ResourcePackType type : ResourcePackType.values())
+        {
+            if (type.getDirectoryName().equals(typeDirectory))
+            {
+                String namespace = resourcePath.substring(typeEnd + 1, namespaceEnd);
+                return namespacesToPacks.computeIfAbsent(type, this::buildNamespaceTable).getOrDefault(namespace, Collections.emptyList());
+            }
+        }
+        return delegates;
+    }
+
+    private Map<String, List<DelegatableResourcePack>> buildNamespaceTable(ResourcePackType type)
+    {
+        Map<String, List<DelegatableResourcePack>> table = new HashMap<>();
+        for (DelegatableResourcePack pack : delegates)
+        {
+            for (String namespace : pack.getResourceNamespaces(type))
+            {
+                table.computeIfAbsent(namespace, k -> new ArrayList<>()).add(pack);
+            }
+        }
+        return table;
+    }
 }
@@ -20,6 +20,7 @@
 package net.minecraftforge.fml.packs;
 
 import net.minecraft.resources.ResourcePack;
+import net.minecraft.resources.ResourcePackFileNotFoundException;
 import net.minecraft.resources.ResourcePackInfo;
 import net.minecraft.resources.ResourcePackType;
 import net.minecraft.util.ResourceLocation;
@@ -38,6 +39,8 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -56,6 +59,7 @@ public class ModFileResourcePack extends DelegatableResourcePack
 {
     private final ModFile modFile;
     private ResourcePackInfo packInfo;
+    private final Map<ResourcePackType, Set<String>> namespaces = Collections.synchronizedMap(new EnumMap<>(ResourcePackType.class));
 
     public ModFileResourcePack(final ModFile modFile)
     {
@@ -76,6 +80,8 @@ public class ModFileResourcePack extends DelegatableResourcePack
     @Override
     public InputStream getInputStream(String name) throws IOException
     {
+        if (!modFile.hasResource(name))
+            throw new ResourcePackFileNotFoundException(modFile.getFilePath().toFile(), name);
         final Path path = modFile.getLocator().findPath(modFile, name);
         return Files.newInputStream(path, StandardOpenOption.READ);
     }
@@ -83,7 +89,7 @@ public class ModFileResourcePack extends DelegatableResourcePack
     @Override
     public boolean resourceExists(String name)
     {
-        return Files.exists(modFile.getLocator().findPath(modFile, name));
+        return modFile.hasResource(name);
     }
 
 
@@ -115,6 +121,12 @@ public class ModFileResourcePack extends DelegatableResourcePack
 
     @Override
     public Set<String> getResourceNamespaces(ResourcePackType type)
+    {
+        // Mod files don't change while the game runs, so each type is only walked once
+        return namespaces.computeIfAbsent(type, this::findResourceNamespaces);
+    }
+
+    private Set<String> findResourceNamespaces(ResourcePackType type)
     {
         try {
             Path root = modFile.getLocator().findPath(modFile, type.getDirectoryName()).toAbsolutePath();
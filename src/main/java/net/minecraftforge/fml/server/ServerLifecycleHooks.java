@@ -38,11 +38,13 @@ import net.minecraft.network.NetworkManager;
 import net.minecraft.network.ProtocolType;
 import net.minecraft.network.handshake.client.CHandshakePacket;
 import net.minecraft.network.login.server.SDisconnectLoginPacket;
+import net.minecraft.resources.IResourceManagerReloadListener;
 import net.minecraft.resources.ResourcePackInfo;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.text.StringTextComponent;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.common.crafting.RecipeItemIndex;
 import net.minecraftforge.fml.DistExecutor;
 import net.minecraftforge.fml.LogicalSidedProvider;
 import net.minecraftforge.fml.ModLoader;
@@ -80,6 +82,8 @@ public class ServerLifecycleHooks
         FileUtils.getOrCreateDirectory(serverConfig, "serverconfig");
         ConfigTracker.INSTANCE.loadConfigs(ModConfig.Type.SERVER, serverConfig);
         ResourcePackLoader.loadResourcePacks(currentServer.getResourcePacks(), ServerLifecycleHooks::buildPackFinder);
+        // Registered after the RecipeManager, so the index is dropped once the new recipes are in place
+        server.getResourceManager().addReloadListener((IResourceManagerReloadListener)resourceManager -> RecipeItemIndex.invalidate(server.getRecipeManager()));
         return !MinecraftForge.EVENT_BUS.post(new FMLServerAboutToStartEvent(server));
     }
 
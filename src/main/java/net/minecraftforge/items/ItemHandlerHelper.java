@@ -26,6 +26,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
+import net.minecraftforge.common.util.IChangeBatching;
 import net.minecraftforge.items.wrapper.PlayerMainInvWrapper;
 
 import javax.annotation.Nonnull;
@@ -39,12 +40,15 @@ public class ItemHandlerHelper
         if (dest == null || stack.isEmpty())
             return stack;
 
-        for (int i = 0; i < dest.getSlots(); i++)
+        try (IChangeBatching.Batch batch = simulate ? IChangeBatching.NONE : IChangeBatching.begin(dest))
         {
-            stack = dest.insertItem(i, stack, simulate);
-            if (stack.isEmpty())
+            for (int i = 0; i < dest.getSlots(); i++)
             {
-                return ItemStack.EMPTY;
+                stack = dest.insertItem(i, stack, simulate);
+                if (stack.isEmpty())
+                {
+                    return ItemStack.EMPTY;
+                }
             }
         }
 
@@ -113,33 +117,36 @@ public class ItemHandlerHelper
 
         int sizeInventory = inventory.getSlots();
 
-        // go through the inventory and try to fill up already existing items
-        for (int i = 0; i < sizeInventory; i++)
+        try (IChangeBatching.Batch batch = simulate ? IChangeBatching.NONE : IChangeBatching.begin(inventory))
         {
-            ItemStack slot = inventory.getStackInSlot(i);
-            if (canItemStacksStackRelaxed(slot, stack))
+            // go through the inventory and try to fill up already existing items
+            for (int i = 0; i < sizeInventory; i++)
             {
-                stack = inventory.insertItem(i, stack, simulate);
-
-                if (stack.isEmpty())
+                ItemStack slot = inventory.getStackInSlot(i);
+                if (canItemStacksStackRelaxed(slot, stack))
                 {
-                    break;
+                    stack = inventory.insertItem(i, stack, simulate);
+
+                    if (stack.isEmpty())
+                    {
+                        break;
+                    }
                 }
             }
-        }
 
-        // insert remainder into empty slots
-        if (!stack.isEmpty())
-        {
-            // find empty slot
-            for (int i = 0; i < sizeInventory; i++)
+            // insert remainder into empty slots
+            if (!stack.isEmpty())
             {
-                if (inventory.getStackInSlot(i).isEmpty())
+                // find empty slot
+                for (int i = 0; i < sizeInventory; i++)
                 {
-                    stack = inventory.insertItem(i, stack, simulate);
-                    if (stack.isEmpty())
+                    if (inventory.getStackInSlot(i).isEmpty())
                     {
-                        break;
+                        stack = inventory.insertItem(i, stack, simulate);
+                        if (stack.isEmpty())
+                        {
+                            break;
+                        }
                     }
                 }
             }
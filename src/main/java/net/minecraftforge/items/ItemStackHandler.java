@@ -19,18 +19,25 @@
 
 package net.minecraftforge.items;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.util.NonNullList;
 import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.common.util.IChangeBatching;
 import net.minecraftforge.common.util.INBTSerializable;
 
 import javax.annotation.Nonnull;
 
-public class ItemStackHandler implements IItemHandler, IItemHandlerModifiable, INBTSerializable<CompoundNBT>
+public class ItemStackHandler implements IItemHandler, IItemHandlerModifiable, INBTSerializable<CompoundNBT>, IChangeBatching
 {
     protected NonNullList<ItemStack> stacks;
+    private int batchDepth = 0;
+    private IntLinkedOpenHashSet batchedSlots = null;
 
     public ItemStackHandler()
     {
@@ -57,7 +64,7 @@ public class ItemStackHandler implements IItemHandler, IItemHandlerModifiable, I
     {
         validateSlotIndex(slot);
         this.stacks.set(slot, stack);
-        onContentsChanged(slot);
+        notifyChanged(slot);
     }
 
     @Override
@@ -113,7 +120,7 @@ public class ItemStackHandler implements IItemHandler, IItemHandlerModifiable, I
             {
                 existing.grow(reachedLimit ? limit : stack.getCount());
             }
-            onContentsChanged(slot);
+            notifyChanged(slot);
         }
 
         return reachedLimit ? ItemHandlerHelper.copyStackWithSize(stack, stack.getCount()- limit) : ItemStack.EMPTY;
@@ -140,7 +147,7 @@ public class ItemStackHandler implements IItemHandler, IItemHandlerModifiable, I
             if (!simulate)
             {
                 this.stacks.set(slot, ItemStack.EMPTY);
-                onContentsChanged(slot);
+                notifyChanged(slot);
             }
             return existing;
         }
@@ -149,7 +156,7 @@ public class ItemStackHandler implements IItemHandler, IItemHandlerModifiable, I
             if (!simulate)
             {
                 this.stacks.set(slot, ItemHandlerHelper.copyStackWithSize(existing, existing.getCount() - toExtract));
-                onContentsChanged(slot);
+                notifyChanged(slot);
             }
 
             return ItemHandlerHelper.copyStackWithSize(existing, toExtract);
@@ -222,8 +229,48 @@ public class ItemStackHandler implements IItemHandler, IItemHandlerModifiable, I
 
     }
 
+    @Override
+    public Batch beginBatch()
+    {
+        batchDepth++;
+        return this::endBatch;
+    }
+
+    private void endBatch()
+    {
+        if (--batchDepth > 0 || batchedSlots == null || batchedSlots.isEmpty())
+            return;
+        IntList changed = new IntArrayList(batchedSlots);
+        batchedSlots.clear();
+        onContentsChanged(changed);
+    }
+
+    protected void notifyChanged(int slot)
+    {
+        if (batchDepth > 0)
+        {
+            if (batchedSlots == null)
+                batchedSlots = new IntLinkedOpenHashSet();
+            batchedSlots.add(slot);
+        }
+        else
+        {
+            onContentsChanged(slot);
+        }
+    }
+
     protected void onContentsChanged(int slot)
     {
 
     }
+
+    /**
+     * Called once when the outermost batch closes, with every slot changed during the batch, in order of first change.
+     * Override this to mark dirty or sync only once per batch, by default it calls {@link #onContentsChanged(int)} once per slot.
+     */
+    protected void onContentsChanged(IntList slots)
+    {
+        for (IntIterator itr = slots.iterator(); itr.hasNext();)
+            onContentsChanged(itr.nextInt());
+    }
 }
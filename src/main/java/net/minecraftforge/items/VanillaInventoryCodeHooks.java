@@ -31,6 +31,7 @@ import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
+import net.minecraftforge.common.util.IChangeBatching;
 import net.minecraftforge.common.util.LazyOptional;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -153,9 +154,12 @@ public class VanillaInventoryCodeHooks
 
     private static ItemStack putStackInInventoryAllSlots(TileEntity source, Object destination, IItemHandler destInventory, ItemStack stack)
     {
-        for (int slot = 0; slot < destInventory.getSlots() && !stack.isEmpty(); slot++)
+        try (IChangeBatching.Batch batch = IChangeBatching.begin(destInventory))
         {
-            stack = insertStack(source, destination, destInventory, stack, slot);
+            for (int slot = 0; slot < destInventory.getSlots() && !stack.isEmpty(); slot++)
+            {
+                stack = insertStack(source, destination, destInventory, stack, slot);
+            }
         }
         return stack;
     }
@@ -20,12 +20,13 @@
 package net.minecraftforge.items.wrapper;
 
 import net.minecraft.item.ItemStack;
+import net.minecraftforge.common.util.IChangeBatching;
 import net.minecraftforge.items.IItemHandlerModifiable;
 
 import javax.annotation.Nonnull;
 
 // combines multiple IItemHandlerModifiable into one interface
-public class CombinedInvWrapper implements IItemHandlerModifiable
+public class CombinedInvWrapper implements IItemHandlerModifiable, IChangeBatching
 {
 
     protected final IItemHandlerModifiable[] itemHandler; // the handlers
@@ -141,4 +142,20 @@ public class CombinedInvWrapper implements IItemHandlerModifiable
         int localSlot = getSlotFromIndex(slot, index);
         return handler.isItemValid(localSlot, stack);
     }
+
+    @Override
+    public Batch beginBatch()
+    {
+        Batch[] batches = new Batch[itemHandler.length];
+        for (int i = 0; i < itemHandler.length; i++)
+        {
+            batches[i] = IChangeBatching.begin(itemHandler[i]);
+        }
+        return () -> {
+            for (int i = batches.length - 1; i >= 0; i--)
+            {
+                batches[i].close();
+            }
+        };
+    }
 }
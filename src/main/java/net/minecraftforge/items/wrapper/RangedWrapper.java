@@ -21,6 +21,7 @@ package net.minecraftforge.items.wrapper;
 
 import com.google.common.base.Preconditions;
 import net.minecraft.item.ItemStack;
+import net.minecraftforge.common.util.IChangeBatching;
 import net.minecraftforge.items.IItemHandlerModifiable;
 
 import javax.annotation.Nonnull;
@@ -29,7 +30,7 @@ import javax.annotation.Nonnull;
  * A wrapper that composes another IItemHandlerModifiable, exposing only a range of the composed slots.
  * Shifting of slot indices is handled automatically for you.
  */
-public class RangedWrapper implements IItemHandlerModifiable {
+public class RangedWrapper implements IItemHandlerModifiable, IChangeBatching {
 
     private final IItemHandlerModifiable compose;
     private final int minSlot;
@@ -116,6 +117,12 @@ public class RangedWrapper implements IItemHandlerModifiable {
         return false;
     }
 
+    @Override
+    public Batch beginBatch()
+    {
+        return IChangeBatching.begin(compose);
+    }
+
     private boolean checkSlot(int localSlot)
     {
         return localSlot + minSlot < maxSlot;
@@ -151,6 +151,8 @@ public class GameData
     private static final ResourceLocation STRUCTURES = new ResourceLocation("minecraft:structures");
 
     private static boolean hasInit = false;
+    // True while ACTIVE holds exactly the FROZEN data, so reverting or injecting frozen data would be a no-op
+    private static volatile boolean activeMatchesFrozen = false;
     private static final boolean DISABLE_VANILLA_REGISTRIES = Boolean.parseBoolean(System.getProperty("forge.disableVanillaGameData", "false")); // Use for unit tests/debugging
     private static final BiConsumer<ResourceLocation, ForgeRegistry<?>> LOCK_VANILLA = (name, reg) -> reg.slaves.values().stream().filter(o -> o instanceof ILockableRegistry).forEach(o -> ((ILockableRegistry)o).lock());
 
@@ -323,6 +325,7 @@ public class GameData
 
         // the id mapping is finalized, no ids actually changed but this is a good place to tell everyone to 'bake' their stuff.
         fireRemapEvent(ImmutableMap.of(), true);
+        activeMatchesFrozen = true;
 
         LOGGER.debug(REGISTRIES, "All registries frozen");
     }
@@ -335,6 +338,12 @@ public class GameData
             LOGGER.warn(REGISTRIES, "Can't revert to frozen GameData state without freezing first.");
             return;
         }
+        if (activeMatchesFrozen)
+        {
+            LOGGER.debug(REGISTRIES, "Active registries already match the frozen state, skipping reload.");
+            fireRemapEvent(ImmutableMap.of(), true);
+            return;
+        }
         RegistryManager.ACTIVE.registries.forEach((name, reg) -> reg.resetDelegates());
 
         LOGGER.debug(REGISTRIES, "Reverting to frozen data state.");
@@ -349,6 +358,7 @@ public class GameData
 
         ObjectHolderRegistry.applyObjectHolders();
         // the id mapping has reverted, ensure we sync up the object holders
+        activeMatchesFrozen = true;
         LOGGER.debug(REGISTRIES, "Frozen state restored.");
     }
 
@@ -357,6 +367,7 @@ public class GameData
     {
         LOGGER.debug(REGISTRIES, "Reverting {} to {}", registry, state.getName());
         final Class<? extends IForgeRegistryEntry> clazz = RegistryManager.ACTIVE.getSuperType(registry);
+        activeMatchesFrozen = false;
         loadRegistry(registry, state, RegistryManager.ACTIVE, clazz, lock);
         LOGGER.debug(REGISTRIES, "Reverting complete");
     }
@@ -698,13 +709,22 @@ public class GameData
         LOGGER.info(REGISTRIES, "Injecting existing registry data into this {} instance", EffectiveSide.get());
         RegistryManager.ACTIVE.registries.forEach((name, reg) -> reg.validateContent(name));
         RegistryManager.ACTIVE.registries.forEach((name, reg) -> reg.dump(name));
-        RegistryManager.ACTIVE.registries.forEach((name, reg) -> reg.resetDelegates());
         
         // Update legacy names
         snapshot = snapshot.entrySet().stream()
                 .sorted(Map.Entry.comparingByKey()) // FIXME Registries need dependency ordering, this makes sure blocks are done before items (for ItemCallbacks) but it's lazy as hell
                 .collect(Collectors.toMap(e -> RegistryManager.ACTIVE.updateLegacyName(e.getKey()), Map.Entry::getValue, (k1, k2) -> k1, LinkedHashMap::new));
 
+        if (isSnapshotUnchanged(snapshot, injectFrozenData))
+        {
+            // Nothing would change, so skip staging, the rebuild of every registry and the object holder pass
+            LOGGER.info(REGISTRIES, "Registry data matches the active registries, skipping injection");
+            fireRemapEvent(ImmutableMap.of(), false);
+            return ArrayListMultimap.create();
+        }
+        activeMatchesFrozen = false;
+        RegistryManager.ACTIVE.registries.forEach((name, reg) -> reg.resetDelegates());
+
         if (isLocalWorld)
         {
             List<ResourceLocation> missingRegs = snapshot.keySet().stream().filter(name -> !RegistryManager.ACTIVE.registries.containsKey(name)).collect(Collectors.toList());
@@ -892,6 +912,28 @@ public class GameData
         return ArrayListMultimap.create();
     }
 
+    /**
+     * Checks whether injecting the snapshot would leave every registry as it is. When frozen data is injected as well,
+     * the active registries must also hold exactly the frozen data, as registries and entries missing from the snapshot are filled from it.
+     */
+    private static boolean isSnapshotUnchanged(Map<ResourceLocation, ForgeRegistry.Snapshot> snapshot, boolean injectFrozenData)
+    {
+        if (injectFrozenData && !activeMatchesFrozen)
+            return false;
+        for (Map.Entry<ResourceLocation, ForgeRegistry.Snapshot> e : snapshot.entrySet())
+        {
+            ForgeRegistry<?> reg = RegistryManager.ACTIVE.getRegistry(e.getKey());
+            if (reg == null)
+                return false;
+            ForgeRegistry.Snapshot active = reg.makeSnapshot();
+            ForgeRegistry.Snapshot incoming = e.getValue();
+            if (!active.ids.equals(incoming.ids) || !active.aliases.equals(incoming.aliases) || !active.blocked.equals(incoming.blocked) ||
+                !active.dummied.equals(incoming.dummied) || !active.overrides.equals(incoming.overrides))
+                return false;
+        }
+        return true;
+    }
+
     private static void fireRemapEvent(final Map<ResourceLocation, Map<ResourceLocation, Integer[]>> remaps, final boolean isFreezing) {
         MinecraftForge.EVENT_BUS.post(new FMLModIdMappingEvent(remaps, isFreezing));
     }
@@ -964,7 +1006,7 @@ public class GameData
             eventDispatcher.accept(lifecycleEventProvider);
             reg.freeze();
             LOGGER.debug(REGISTRIES,"Applying holder lookups: {}", rl.toString());
-            ObjectHolderRegistry.applyObjectHolders(rl::equals);
+            ObjectHolderRegistry.applyObjectHolders(rl);
             LOGGER.debug(REGISTRIES,"Holder lookups applied: {}", rl.toString());
         }
     }
@@ -19,6 +19,10 @@
 
 package net.minecraftforge.registries;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Collections;
@@ -40,6 +44,7 @@ public class ObjectHolderRef implements Consumer<Predicate<ResourceLocation>>
 {
     private static final Logger LOGGER  = LogManager.getLogger();
     private Field field;
+    private MethodHandle setter;
     private ResourceLocation injectedObject;
     private boolean isValid;
     private ForgeRegistry<?> registry;
@@ -101,6 +106,16 @@ public class ObjectHolderRef implements Consumer<Predicate<ResourceLocation>>
         {
             throw new RuntimeException("@ObjectHolder on final field, our transformer did not run? " + field.getDeclaringClass().getName() + "/" + field.getName());
         }
+
+        try
+        {
+            // Adapted once here so every injection is a plain invokeExact, rather than a reflective set with access checks
+            this.setter = MethodHandles.lookup().unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class));
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new RuntimeException("Unable to create setter for @ObjectHolder " + field.getDeclaringClass().getName() + "/" + field.getName(), e);
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -139,16 +154,33 @@ public class ObjectHolderRef implements Consumer<Predicate<ResourceLocation>>
         if (registry == null || !filter.test(registry.getRegistryName()))
             return;
 
-        Object thing;
+        inject(lookup());
+    }
+
+    @Nullable
+    ForgeRegistry<?> getRegistry()
+    {
+        return registry;
+    }
+
+    ResourceLocation getInjectedObject()
+    {
+        return injectedObject;
+    }
+
+    /**
+     * @return the current registry value for this holder, or null if it is not registered
+     */
+    @Nullable
+    Object lookup()
+    {
         if (isValid && registry.containsKey(injectedObject) && !registry.isDummied(injectedObject))
-        {
-            thing = registry.getValue(injectedObject);
-        }
-        else
-        {
-            thing = null;
-        }
+            return registry.getValue(injectedObject);
+        return null;
+    }
 
+    void inject(@Nullable Object thing)
+    {
         if (thing == null)
         {
             LOGGER.debug("Unable to lookup {} for {}. This means the object wasn't registered. It's likely just mod options.", injectedObject, field);
@@ -156,12 +188,21 @@ public class ObjectHolderRef implements Consumer<Predicate<ResourceLocation>>
         }
         try
         {
-            field.set(null, thing);
+            setter.invokeExact(thing);
         }
-        catch (IllegalArgumentException | ReflectiveOperationException e)
+        catch (ClassCastException | WrongMethodTypeException e)
         {
             LOGGER.warn("Unable to set {} with value {} ({})", this.field, thing, this.injectedObject, e);
         }
+        catch (RuntimeException | Error e)
+        {
+            throw e;
+        }
+        catch (Throwable e)
+        {
+            // A field setter has no checked exceptions, invokeExact just declares Throwable
+            throw new RuntimeException(e);
+        }
     }
 
     @Override
@@ -22,7 +22,10 @@ package net.minecraftforge.registries;
 import java.lang.annotation.ElementType;
 import java.lang.reflect.Field;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -62,7 +65,17 @@ public class ObjectHolderRegistry
      */
     public static void addHandler(Consumer<Predicate<ResourceLocation>> ref)
     {
-        objectHolders.add(ref);
+        if (ref instanceof ObjectHolderRef && ((ObjectHolderRef)ref).isValid())
+        {
+            ObjectHolderRef holder = (ObjectHolderRef)ref;
+            holdersByRegistry.computeIfAbsent(holder.getRegistry().getRegistryName(), k -> new LinkedHashMap<>())
+                .computeIfAbsent(holder.getInjectedObject(), k -> new LinkedHashSet<>())
+                .add(holder);
+        }
+        else
+        {
+            objectHolders.add(ref);
+        }
     }
 
     /**
@@ -76,6 +89,18 @@ public class ObjectHolderRegistry
      */
     public static boolean removeHandler(Consumer<Predicate<ResourceLocation>> ref)
     {
+        if (ref instanceof ObjectHolderRef && ((ObjectHolderRef)ref).isValid())
+        {
+            ObjectHolderRef holder = (ObjectHolderRef)ref;
+            Map<ResourceLocation, Set<ObjectHolderRef>> registryHolders = holdersByRegistry.get(holder.getRegistry().getRegistryName());
+            Set<ObjectHolderRef> keyHolders = registryHolders == null ? null : registryHolders.get(holder.getInjectedObject());
+            if (keyHolders != null && keyHolders.remove(holder))
+            {
+                if (keyHolders.isEmpty())
+                    registryHolders.remove(holder.getInjectedObject());
+                return true;
+            }
+        }
         return objectHolders.remove(ref);
     }
 
@@ -85,6 +110,8 @@ public class ObjectHolderRegistry
 
     private static final Logger LOGGER = LogManager.getLogger();
     private static final Set<Consumer<Predicate<ResourceLocation>>> objectHolders = new HashSet<>();
+    // Scanned @ObjectHolder fields: registry name -> injected object name -> fields, so each registry only touches its own holders
+    private static final Map<ResourceLocation, Map<ResourceLocation, Set<ObjectHolderRef>>> holdersByRegistry = new HashMap<>();
     private static final Type OBJECT_HOLDER = Type.getType(ObjectHolder.class);
     private static final Type MOD = Type.getType(Mod.class);
 
@@ -109,7 +136,7 @@ public class ObjectHolderRegistry
 
         annotations.stream().filter(a -> OBJECT_HOLDER.equals(a.getAnnotationType())).filter(a -> a.getTargetType() == ElementType.FIELD)
         .forEach(data -> scanTarget(classModIds, classCache, data.getClassType(), data.getMemberName(), (String)data.getAnnotationData().get("value"), false, false));
-        LOGGER.debug(REGISTRIES,"Found {} ObjectHolder annotations", objectHolders.size());
+        LOGGER.debug(REGISTRIES,"Found {} ObjectHolder annotations", objectHolders.size() + holdersByRegistry.values().stream().flatMap(m -> m.values().stream()).mapToInt(Set::size).sum());
     }
 
     private static void scanTarget(Map<Type, String> classModIds, Map<Type, Class<?>> classCache, Type type, @Nullable String annotationTarget, String value, boolean isClass, boolean extractFromValue)
@@ -186,7 +213,35 @@ public class ObjectHolderRegistry
 
     public static void applyObjectHolders(Predicate<ResourceLocation> filter)
     {
+        holdersByRegistry.forEach((registryName, holders) -> {
+            if (filter.test(registryName))
+                applyHolders(holders);
+        });
         objectHolders.forEach(e -> e.accept(filter));
     }
 
+    /**
+     * Applies only the holders targeting a single registry.
+     */
+    public static void applyObjectHolders(ResourceLocation registryName)
+    {
+        Map<ResourceLocation, Set<ObjectHolderRef>> holders = holdersByRegistry.get(registryName);
+        if (holders != null)
+            applyHolders(holders);
+        objectHolders.forEach(e -> e.accept(registryName::equals));
+    }
+
+    private static void applyHolders(Map<ResourceLocation, Set<ObjectHolderRef>> holders)
+    {
+        for (Set<ObjectHolderRef> refs : holders.values())
+        {
+            if (refs.isEmpty())
+                continue;
+            // Every field holding the same name receives the same object, so it is only looked up once
+            Object thing = refs.iterator().next().lookup();
+            for (ObjectHolderRef ref : refs)
+                ref.inject(thing);
+        }
+    }
+
 }
@@ -0,0 +1,112 @@
+/*
+ * Minecraft Forge
+ * Copyright (c) 2016-2019.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation version 2.1
+ * of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package net.minecraftforge.client.model;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the greedy rectangle cover behind {@link ItemTextureQuadConverter#convertTextureGreedy}.
+ */
+public class ItemTextureQuadConverterTest
+{
+    private static BitSet mask(String... rows)
+    {
+        BitSet mask = new BitSet();
+        for (int y = 0; y < rows.length; y++)
+        {
+            for (int x = 0; x < rows[y].length(); x++)
+            {
+                if (rows[y].charAt(x) == '#')
+                    mask.set(y * rows[y].length() + x);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Checks that the rectangles cover every set pixel exactly once and nothing else.
+     */
+    private static void assertExactCover(BitSet expected, List<int[]> rects, int w, int h)
+    {
+        BitSet covered = new BitSet(w * h);
+        for (int[] rect : rects)
+        {
+            assertTrue(rect[0] < rect[2] && rect[1] < rect[3], "empty rectangle");
+            assertTrue(rect[0] >= 0 && rect[1] >= 0 && rect[2] <= w && rect[3] <= h, "rectangle out of bounds");
+            for (int y = rect[1]; y < rect[3]; y++)
+            {
+                for (int x = rect[0]; x < rect[2]; x++)
+                {
+                    assertFalse(covered.get(y * w + x), "pixel covered twice");
+                    covered.set(y * w + x);
+                }
+            }
+        }
+        assertEquals(expected, covered);
+    }
+
+    @Test
+    public void testSolidTextureIsOneQuad()
+    {
+        BitSet mask = mask("####", "####", "####", "####");
+        List<int[]> rects = ItemTextureQuadConverter.coverGreedy((BitSet)mask.clone(), 4, 4);
+        assertEquals(1, rects.size());
+        assertArrayEquals(new int[] { 0, 0, 4, 4 }, rects.get(0));
+    }
+
+    @Test
+    public void testEmptyTextureHasNoQuads()
+    {
+        assertTrue(ItemTextureQuadConverter.coverGreedy(new BitSet(), 4, 4).isEmpty());
+    }
+
+    @Test
+    public void testShapesAreCoveredExactly()
+    {
+        String[][] shapes = {
+            { "#...", "##..", "###.", "####" },
+            { "#.#.", ".#.#", "#.#.", ".#.#" },
+            { ".##.", "####", "####", ".##." },
+            { "##..", "##..", "..##", "..##" },
+            { "####", "#..#", "#..#", "####" },
+        };
+        for (String[] shape : shapes)
+        {
+            BitSet mask = mask(shape);
+            assertExactCover(mask, ItemTextureQuadConverter.coverGreedy((BitSet)mask.clone(), 4, 4), 4, 4);
+        }
+    }
+
+    @Test
+    public void testMergesAcrossRows()
+    {
+        // Whole-row strips need three quads for this, the greedy cover grows the left block down and needs two
+        BitSet mask = mask("##..", "##..", "##.#", "##.#");
+        List<int[]> rects = ItemTextureQuadConverter.coverGreedy((BitSet)mask.clone(), 4, 4);
+        assertEquals(2, rects.size());
+        assertArrayEquals(new int[] { 0, 0, 2, 4 }, rects.get(0));
+        assertArrayEquals(new int[] { 3, 2, 4, 4 }, rects.get(1));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Minecraft Forge
+ * Copyright (c) 2016-2019.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation version 2.1
+ * of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package net.minecraftforge.client.model.obj;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LineReaderTest
+{
+    private static LineReader reader(String text)
+    {
+        return new LineReader(new InputStreamReader(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8));
+    }
+
+    private static void assertParsesLikeJdk(String number) throws IOException
+    {
+        LineReader reader = reader(number);
+        assertTrue(reader.nextLine(true));
+        float expected = Float.parseFloat(number);
+        assertEquals(Float.floatToIntBits(expected), Float.floatToIntBits(reader.parseFloat(0)), number);
+    }
+
+    @Test
+    public void testFloatEdgeCases() throws IOException
+    {
+        String[] numbers = {
+            "0", "-0", "0.0", "-0.0", "1", "-1", "+1.5", ".5", "5.", "0.1", "0.2", "0.3", "1e3", "1E-3", "2.5e+2",
+            "16777216", "16777217", "0.16777217", "1.00000001", "123456789", "0.000000001", "1e10", "1e-10", "1e11",
+            "1e-11", "3.4028235e38", "1.4e-45", "1e39", "NaN", "-Infinity", "0x1p3", "1.5f", "0.33333334",
+            "0.000001", "0.0000001", "12345.678", "-0.9999999", "9999999.5",
+        };
+        for (String number : numbers)
+        {
+            assertParsesLikeJdk(number);
+        }
+    }
+
+    @Test
+    public void testFloatParityWithJdk() throws IOException
+    {
+        // Random decimals shaped like OBJ coordinates, including the long and exponent forms that leave the fast path
+        Random random = new Random(42);
+        for (int i = 0; i < 200000; i++)
+        {
+            int digits = 1 + random.nextInt(10);
+            int point = random.nextInt(digits + 1);
+            StringBuilder number = new StringBuilder();
+            if (random.nextBoolean())
+                number.append('-');
+            for (int d = 0; d < digits; d++)
+            {
+                if (d == point)
+                    number.append('.');
+                number.append((char)('0' + random.nextInt(10)));
+            }
+            if (random.nextInt(8) == 0)
+                number.append('e').append(random.nextInt(25) - 12);
+            assertParsesLikeJdk(number.toString());
+        }
+    }
+
+    @Test
+    public void testTokensAndContinuations() throws IOException
+    {
+        LineReader reader = reader("# comment\n\nv  1.0\t2.0 \\\n 3.0\r\nf 1/2/3 4//6 7\n");
+        assertTrue(reader.nextLine(true));
+        assertEquals(4, reader.getTokenCount());
+        assertTrue(reader.tokenEquals(0, "v"));
+        assertEquals(3.0f, reader.parseFloat(3), "continued token");
+
+        assertTrue(reader.nextLine(true));
+        int[] indices = new int[3];
+        assertEquals(3, reader.parseIndices(1, indices));
+        assertArrayEquals(new int[] { 1, 2, 3 }, indices);
+        assertEquals(3, reader.parseIndices(2, indices));
+        assertArrayEquals(new int[] { 4, 0, 6 }, indices);
+        assertEquals(1, reader.parseIndices(3, indices));
+        assertEquals(7, indices[0]);
+
+        assertFalse(reader.nextLine(true));
+    }
+}
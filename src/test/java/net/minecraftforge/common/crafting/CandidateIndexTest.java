@@ -0,0 +1,70 @@
+/*
+ * Minecraft Forge
+ * Copyright (c) 2016-2019.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation version 2.1
+ * of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package net.minecraftforge.common.crafting;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the candidate selection behind {@link RecipeItemIndex}.
+ */
+public class CandidateIndexTest
+{
+    @Test
+    public void testAnyKeySelectsValue()
+    {
+        CandidateIndex<String, String> index = new CandidateIndex<>();
+        index.add("iron_ingot_from_smelting", Collections.singleton("iron_ore"));
+        index.add("gold_ingot_from_smelting", Collections.singleton("gold_ore"));
+
+        // A furnace also reports its fuel and output slots, which are not ingredients of the recipe
+        assertEquals(Collections.singletonList("iron_ingot_from_smelting"), index.getCandidates(Arrays.asList("iron_ore", "coal", "iron_ingot")));
+        assertEquals(Collections.emptyList(), index.getCandidates(Collections.singleton("coal")));
+    }
+
+    @Test
+    public void testOrderAndWildcards()
+    {
+        CandidateIndex<String, String> index = new CandidateIndex<>();
+        index.add("a", Arrays.asList("stick", "plank"));
+        index.add("wild", null);
+        index.add("b", Collections.singleton("plank"));
+        index.add("c", Collections.singleton("stone"));
+        index.add("empty", Collections.emptySet());
+
+        assertEquals(Arrays.asList("a", "wild", "b", "empty"), index.getCandidates(Arrays.asList("plank", "stick")));
+        assertEquals(Arrays.asList("wild", "c", "empty"), index.getCandidates(Collections.singleton("stone")));
+        assertEquals(Arrays.asList("wild", "empty"), index.getCandidates(Collections.singleton("dirt")));
+    }
+
+    @Test
+    public void testNoKeysReturnsEverything()
+    {
+        CandidateIndex<String, String> index = new CandidateIndex<>();
+        index.add("a", Collections.singleton("stick"));
+        index.add("b", Collections.singleton("stick"));
+
+        assertEquals(Arrays.asList("a", "b"), index.getCandidates(Collections.emptySet()));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Minecraft Forge
+ * Copyright (c) 2016-2019.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation version 2.1
+ * of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package net.minecraftforge.fml;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraftforge.forgespi.language.IModInfo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeferredWorkQueueTest
+{
+    private static IModInfo mod(String modId)
+    {
+        return (IModInfo)Proxy.newProxyInstance(IModInfo.class.getClassLoader(), new Class<?>[] { IModInfo.class },
+                (proxy, method, args) -> method.getName().equals("getModId") ? modId : null);
+    }
+
+    private static void runTasks(ExecutorService laneExecutor)
+    {
+        // The stage is only used for logging
+        DeferredWorkQueue.runTasks(null, errors -> assertTrue(errors.isEmpty()), Runnable::run, laneExecutor);
+    }
+
+    @Test
+    public void testMainLaneRunsFirstOnLoadingThread() throws InterruptedException
+    {
+        ExecutorService laneExecutor = Executors.newFixedThreadPool(2);
+        try
+        {
+            DeferredWorkQueue.clear();
+            Thread loadingThread = Thread.currentThread();
+            List<String> order = Collections.synchronizedList(new ArrayList<>());
+            DeferredWorkQueue.enqueue(mod("a"), "biomes", () -> order.add("biomes"));
+            DeferredWorkQueue.enqueue(mod("a"), DeferredWorkQueue.MAIN_LANE, () -> {
+                assertSame(loadingThread, Thread.currentThread());
+                order.add("main1");
+            });
+            DeferredWorkQueue.enqueue(mod("b"), DeferredWorkQueue.MAIN_LANE, () -> order.add("main2"));
+            runTasks(laneExecutor);
+
+            assertEquals(Arrays.asList("main1", "main2", "biomes"), order);
+        }
+        finally
+        {
+            laneExecutor.shutdownNow();
+            laneExecutor.awaitTermination(10, TimeUnit.SECONDS);
+            DeferredWorkQueue.clear();
+        }
+    }
+
+    @Test
+    public void testLanesKeepSubmissionOrderAndRunConcurrently() throws InterruptedException
+    {
+        ExecutorService laneExecutor = Executors.newFixedThreadPool(2);
+        try
+        {
+            DeferredWorkQueue.clear();
+            List<String> biomes = Collections.synchronizedList(new ArrayList<>());
+            List<String> features = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch bothStarted = new CountDownLatch(2);
+            Runnable awaitOtherLane = () -> {
+                bothStarted.countDown();
+                try
+                {
+                    // Only returns true if the other lane is running at the same time
+                    assertTrue(bothStarted.await(10, TimeUnit.SECONDS), "lanes did not run concurrently");
+                }
+                catch (InterruptedException e)
+                {
+                    throw new RuntimeException(e);
+                }
+            };
+            DeferredWorkQueue.enqueue(mod("a"), "biomes", awaitOtherLane);
+            DeferredWorkQueue.enqueue(mod("b"), "features", awaitOtherLane);
+            for (int i = 0; i < 100; i++)
+            {
+                String task = Integer.toString(i);
+                DeferredWorkQueue.enqueue(mod(i % 2 == 0 ? "a" : "b"), "biomes", () -> biomes.add(task));
+                DeferredWorkQueue.enqueue(mod(i % 2 == 0 ? "b" : "a"), "features", () -> features.add(task));
+            }
+            runTasks(laneExecutor);
+
+            assertEquals(0, bothStarted.getCount());
+            assertEquals(100, biomes.size());
+            assertEquals(100, features.size());
+            for (int i = 0; i < 100; i++)
+            {
+                assertEquals(Integer.toString(i), biomes.get(i));
+                assertEquals(Integer.toString(i), features.get(i));
+            }
+        }
+        finally
+        {
+            laneExecutor.shutdownNow();
+            laneExecutor.awaitTermination(10, TimeUnit.SECONDS);
+            DeferredWorkQueue.clear();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Minecraft Forge
+ * Copyright (c) 2016-2019.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation version 2.1
+ * of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package net.minecraftforge.fml;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the update json fetching of {@link VersionChecker} against a local HTTP server.
+ */
+public class VersionCheckerTest
+{
+    private static final String BODY = "{\"promos\":{}}";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void startServer() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        VersionChecker.cache.clear();
+    }
+
+    @AfterEach
+    public void stopServer()
+    {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        VersionChecker.cache.clear();
+    }
+
+    private URL url(String path) throws IOException
+    {
+        return new URL("http://127.0.0.1:" + server.getAddress().getPort() + path);
+    }
+
+    private static void respond(HttpExchange exchange, int code, String body) throws IOException
+    {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(code, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody())
+        {
+            out.write(bytes);
+        }
+    }
+
+    @Test
+    public void testRevalidatesWithETag() throws IOException
+    {
+        server.createContext("/update.json", exchange -> {
+            String etag = exchange.getRequestHeaders().getFirst("If-None-Match");
+            requests.add(String.valueOf(etag));
+            if ("\"v1\"".equals(etag))
+            {
+                respond(exchange, 304, "");
+                return;
+            }
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            respond(exchange, 200, BODY);
+        });
+        URL url = url("/update.json");
+
+        assertEquals(BODY, VersionChecker.fetch(url));
+        // Still fresh, answered from the cache without a request
+        assertEquals(BODY, VersionChecker.fetch(url));
+        assertEquals(1, requests.size());
+
+        VersionChecker.cache.get(url.toString()).fetched = 0;
+        assertEquals(BODY, VersionChecker.fetch(url));
+        assertEquals(2, requests.size());
+        assertEquals("null", requests.get(0));
+        assertEquals("\"v1\"", requests.get(1));
+        assertTrue(System.currentTimeMillis() - VersionChecker.cache.get(url.toString()).fetched < TimeUnit.MINUTES.toMillis(1), "revalidation refreshes the entry");
+    }
+
+    @Test
+    public void testFollowsRedirects() throws IOException
+    {
+        server.createContext("/old.json", exchange -> {
+            requests.add("old");
+            exchange.getResponseHeaders().add("Location", "/moved/update.json");
+            respond(exchange, 301, "");
+        });
+        server.createContext("/moved/update.json", exchange -> {
+            requests.add("moved");
+            exchange.getResponseHeaders().add("Location", "update2.json");
+            respond(exchange, 302, "");
+        });
+        server.createContext("/moved/update2.json", exchange -> {
+            requests.add("final");
+            respond(exchange, 200, BODY);
+        });
+        URL url = url("/old.json");
+
+        assertEquals(BODY, VersionChecker.fetch(url));
+        assertEquals(3, requests.size());
+        assertEquals("final", requests.get(2));
+        // Cached under the url the mod asked for
+        assertNotNull(VersionChecker.cache.get(url.toString()));
+    }
+
+    @Test
+    public void testRedirectLoopFails() throws IOException
+    {
+        server.createContext("/loop.json", exchange -> {
+            exchange.getResponseHeaders().add("Location", "/loop.json");
+            respond(exchange, 302, "");
+        });
+        URL url = url("/loop.json");
+
+        CompletionException e = assertThrows(CompletionException.class, () -> VersionChecker.fetch(url));
+        assertTrue(e.getCause() instanceof IOException);
+        assertNull(VersionChecker.cache.get(url.toString()));
+    }
+
+    @Test
+    public void testCancelClosesBlockedConnection() throws Exception
+    {
+        CountDownLatch received = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        server.createContext("/slow.json", exchange -> {
+            received.countDown();
+            try
+            {
+                release.await(30, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, BODY);
+        });
+        URL url = url("/slow.json");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            CompletableFuture<String> fetch = CompletableFuture.supplyAsync(() -> VersionChecker.fetch(url), executor);
+            assertTrue(received.await(10, TimeUnit.SECONDS));
+            VersionChecker.cancel();
+            // Well below the read timeout, so only closing the connection can have ended the fetch
+            assertThrows(ExecutionException.class, () -> {
+                try
+                {
+                    fetch.get(5, TimeUnit.SECONDS);
+                }
+                catch (TimeoutException e)
+                {
+                    fail("fetch was not cancelled");
+                }
+            });
+        }
+        finally
+        {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
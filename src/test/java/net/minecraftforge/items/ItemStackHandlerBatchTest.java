@@ -0,0 +1,190 @@
+/*
+ * Minecraft Forge
+ * Copyright (c) 2016-2019.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation version 2.1
+ * of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package net.minecraftforge.items;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import net.minecraft.fluid.Fluids;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.util.registry.Bootstrap;
+import net.minecraftforge.common.util.IChangeBatching;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
+import net.minecraftforge.fluids.capability.templates.FluidTank;
+import net.minecraftforge.items.wrapper.CombinedInvWrapper;
+import net.minecraftforge.items.wrapper.RangedWrapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the change notifications of {@link ItemStackHandler} and {@link FluidTank} inside and outside of an {@link IChangeBatching.Batch}.
+ */
+public class ItemStackHandlerBatchTest
+{
+    @BeforeAll
+    public static void bootstrap()
+    {
+        Bootstrap.register();
+    }
+
+    @Test
+    public void testUnbatchedNotifiesEachChange()
+    {
+        RecordingHandler handler = new RecordingHandler(3);
+        handler.setStackInSlot(1, new ItemStack(Items.DIAMOND));
+        handler.setStackInSlot(1, new ItemStack(Items.EMERALD));
+
+        assertEquals(Arrays.asList(1, 1), handler.single);
+        assertEquals(Collections.emptyList(), handler.batches);
+    }
+
+    @Test
+    public void testNestedBatchNotifiesOnceOnOuterClose()
+    {
+        RecordingHandler handler = new RecordingHandler(3);
+        try (IChangeBatching.Batch outer = handler.beginBatch())
+        {
+            try (IChangeBatching.Batch inner = handler.beginBatch())
+            {
+                handler.setStackInSlot(0, new ItemStack(Items.DIAMOND));
+            }
+            assertEquals(Collections.emptyList(), handler.batches);
+            handler.setStackInSlot(1, new ItemStack(Items.DIAMOND));
+        }
+
+        assertEquals(Collections.emptyList(), handler.single);
+        assertEquals(Collections.singletonList(Arrays.asList(0, 1)), handler.batches);
+    }
+
+    @Test
+    public void testRepeatedSlotReportedOnceInFirstChangeOrder()
+    {
+        RecordingHandler handler = new RecordingHandler(3);
+        try (IChangeBatching.Batch batch = handler.beginBatch())
+        {
+            handler.setStackInSlot(2, new ItemStack(Items.DIAMOND));
+            handler.setStackInSlot(0, new ItemStack(Items.DIAMOND));
+            handler.setStackInSlot(2, new ItemStack(Items.EMERALD));
+            handler.extractItem(2, 1, false);
+        }
+
+        assertEquals(Collections.singletonList(Arrays.asList(2, 0)), handler.batches);
+    }
+
+    @Test
+    public void testEmptyBatchDoesNotNotify()
+    {
+        RecordingHandler handler = new RecordingHandler(3);
+        handler.beginBatch().close();
+
+        assertEquals(Collections.emptyList(), handler.batches);
+    }
+
+    @Test
+    public void testSimulateDoesNotNotify()
+    {
+        RecordingHandler handler = new RecordingHandler(3);
+        ItemStack remainder = ItemHandlerHelper.insertItemStacked(handler, new ItemStack(Items.DIAMOND, 64 * 3), true);
+        handler.extractItem(0, 1, true);
+
+        assertTrue(remainder.isEmpty());
+        assertEquals(Collections.emptyList(), handler.single);
+        assertEquals(Collections.emptyList(), handler.batches);
+
+        ItemHandlerHelper.insertItemStacked(handler, new ItemStack(Items.DIAMOND, 64 * 3), false);
+        assertEquals(Collections.singletonList(Arrays.asList(0, 1, 2)), handler.batches);
+    }
+
+    @Test
+    public void testWrappersBatchTheirHandlers()
+    {
+        RecordingHandler first = new RecordingHandler(2);
+        RecordingHandler second = new RecordingHandler(2);
+        CombinedInvWrapper combined = new CombinedInvWrapper(first, second);
+        RangedWrapper ranged = new RangedWrapper(combined, 1, 4);
+        try (IChangeBatching.Batch batch = IChangeBatching.begin(ranged))
+        {
+            ranged.setStackInSlot(0, new ItemStack(Items.DIAMOND));
+            ranged.setStackInSlot(2, new ItemStack(Items.DIAMOND));
+            ranged.setStackInSlot(1, new ItemStack(Items.DIAMOND));
+        }
+
+        assertEquals(Collections.emptyList(), first.single);
+        assertEquals(Collections.emptyList(), second.single);
+        assertEquals(Collections.singletonList(Collections.singletonList(1)), first.batches);
+        assertEquals(Collections.singletonList(Arrays.asList(1, 0)), second.batches);
+    }
+
+    @Test
+    public void testFluidTankBatch()
+    {
+        int[] changes = new int[1];
+        FluidTank tank = new FluidTank(1000)
+        {
+            @Override
+            protected void onContentsChanged()
+            {
+                changes[0]++;
+            }
+        };
+        try (IChangeBatching.Batch batch = tank.beginBatch())
+        {
+            tank.fill(new FluidStack(Fluids.WATER, 100), FluidAction.EXECUTE);
+            tank.fill(new FluidStack(Fluids.WATER, 100), FluidAction.SIMULATE);
+            tank.drain(50, FluidAction.EXECUTE);
+            assertEquals(0, changes[0]);
+        }
+        assertEquals(1, changes[0]);
+
+        tank.drain(50, FluidAction.SIMULATE);
+        tank.beginBatch().close();
+        assertEquals(1, changes[0]);
+    }
+
+    private static class RecordingHandler extends ItemStackHandler
+    {
+        private final List<Integer> single = new ArrayList<>();
+        private final List<List<Integer>> batches = new ArrayList<>();
+
+        private RecordingHandler(int size)
+        {
+            super(size);
+        }
+
+        @Override
+        protected void onContentsChanged(int slot)
+        {
+            single.add(slot);
+        }
+
+        @Override
+        protected void onContentsChanged(IntList slots)
+        {
+            batches.add(new ArrayList<>(slots));
+        }
+    }
+}